@@ -0,0 +1,57 @@
+package com.projects.JobTracker_Backend.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileFactory;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Binary representations of the API next to JSON. Clients sending
+ * {@code Accept: application/x-jackson-smile} or {@code Accept: application/cbor} get the same
+ * responses as Smile or CBOR, which are smaller and cheaper to write than JSON text; job pages are
+ * mostly repeated field names, enum constants and timestamps.
+ *
+ * Blackbird is registered as a module bean, so Spring Boot adds it to the JSON mapper too; it
+ * replaces reflective getter calls with generated lambdas. The binary mappers get every module
+ * bean, leave null fields out, and Smile also back-references repeated short string values
+ * (categories, sources, companies) within a response.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public JacksonSmileHttpMessageConverter smileHttpMessageConverter(ObjectProvider<JacksonModule> modules) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new JacksonSmileHttpMessageConverter(build(SmileMapper.builder(factory), modules));
+    }
+
+    @Bean
+    public JacksonCborHttpMessageConverter cborHttpMessageConverter(ObjectProvider<JacksonModule> modules) {
+        return new JacksonCborHttpMessageConverter(build(CBORMapper.builder(), modules));
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M build(
+            B builder, ObjectProvider<JacksonModule> modules) {
+        modules.orderedStream().forEach(builder::addModule);
+        return builder
+                .changeDefaultPropertyInclusion(inclusion -> inclusion.withValueInclusion(JsonInclude.Include.NON_NULL))
+                .build();
+    }
+}
@@ -14,7 +14,7 @@ public class CacheConfig {
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "users", "savedJobs", "appliedJobs", "userStats"
+                "users", "savedJobs", "appliedJobs", "followedCompanies"
         );
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(500)
@@ -0,0 +1,53 @@
+package com.projects.JobTracker_Backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+
+/**
+ * Conditional GET for the job read endpoints.
+ *
+ * Listings and job details tag themselves from catalog and user versions (see JobEtagService) and
+ * answer 304 before querying. Everything else under these paths (facets, histograms, suggestions,
+ * stats, the public pages) has no cheap version, so this filter buffers the body and tags it with
+ * its hash: a match still costs the query, but not the transfer. Responses are marked private,
+ * no-cache instead of Spring Security's default no-store, so clients keep them and revalidate.
+ */
+@Configuration
+public class HttpCachingConfig {
+
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new RevalidatingEtagHeaderFilter());
+        registration.addUrlPatterns("/api/jobs/*", "/api/public/*");
+        return registration;
+    }
+
+    // Headers are set before the chain runs; Spring Security leaves an existing Cache-Control alone
+    private static class RevalidatingEtagHeaderFilter extends ShallowEtagHeaderFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            if (HttpMethod.GET.matches(request.getMethod())) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+                // JSON, Smile or CBOR by Accept (see BinaryFormatsConfig)
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+            super.doFilterInternal(request, response, filterChain);
+        }
+    }
+}
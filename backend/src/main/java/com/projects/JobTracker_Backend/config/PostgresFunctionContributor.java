@@ -0,0 +1,27 @@
+package com.projects.JobTracker_Backend.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL operators that JPA criteria cannot express, so specifications can emit
+ * predicates the database's indexes understand. Loaded through META-INF/services.
+ */
+public class PostgresFunctionContributor implements FunctionContributor {
+
+    /**
+     * word_similar(term, text): pg_trgm's {@code term <% text}, true when some word sequence of
+     * text is at least pg_trgm.word_similarity_threshold similar to term. Served by gin_trgm_ops indexes.
+     */
+    public static final String WORD_SIMILAR = "word_similar";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                WORD_SIMILAR,
+                "(?1 <% ?2)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
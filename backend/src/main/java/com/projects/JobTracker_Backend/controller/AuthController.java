@@ -57,7 +57,7 @@ public class AuthController {
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
             // Generate tokens
-            String accessToken = jwtUtils.generateToken(dbUser.getUsername());
+            String accessToken = jwtUtils.generateToken(dbUser);
             RefreshToken refreshToken = refreshTokenService.createRefreshToken(dbUser.getId());
 
             // Return response
@@ -134,7 +134,7 @@ public class AuthController {
                         return ResponseEntity.badRequest()
                                 .body(Map.of("message", "Refresh token expired. Please login again."));
                     }
-                    String newJwt = jwtUtils.generateToken(token.getUser().getUsername());
+                    String newJwt = jwtUtils.generateToken(token.getUser());
                     return ResponseEntity.ok(Map.of("token", newJwt));
                 })
                 .orElse(ResponseEntity.badRequest()
@@ -1,26 +1,45 @@
 package com.projects.JobTracker_Backend.controller;
 
 import com.projects.JobTracker_Backend.dto.*;
+import com.projects.JobTracker_Backend.enums.ExportFormat;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.enums.PageTotal;
 import com.projects.JobTracker_Backend.model.AppliedJob;
 import com.projects.JobTracker_Backend.model.FulltimeJobs;
 import com.projects.JobTracker_Backend.model.InternJobs;
 import com.projects.JobTracker_Backend.model.Job;
+import com.projects.JobTracker_Backend.search.SuggestionIndex;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
 import com.projects.JobTracker_Backend.service.FulltimeJobsService;
 import com.projects.JobTracker_Backend.service.InternJobsService;
+import com.projects.JobTracker_Backend.service.JobEtagService;
+import com.projects.JobTracker_Backend.service.JobFacetService;
 import com.projects.JobTracker_Backend.service.JobService;
+import com.projects.JobTracker_Backend.service.KeywordSearchResult;
+import com.projects.JobTracker_Backend.specification.JobFilter;
 import com.projects.JobTracker_Backend.util.SecurityUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,9 +47,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JobController {
 
+    private static final String SEARCH_CORRECTIONS_HEADER = "X-Search-Corrections";
+    private static final String TOTAL_APPROXIMATE_HEADER = "X-Total-Approximate";
+
     private final JobService jobService;
     private final InternJobsService internJobsService;
     private final FulltimeJobsService fulltimeJobsService;
+    private final JobFacetService jobFacetService;
+    private final JobEtagService jobEtagService;
+    private final SuggestionIndex suggestionIndex;
     private final SecurityUtil securityUtil;
 
     // ================== JOB BROWSING ==================
@@ -38,28 +63,43 @@ public class JobController {
     /**
      * GET /api/jobs
      * Get all active jobs (paginated)
+     * With ?cursor= (empty for the first page) pages by cursor instead of page number; see CursorPageDTO
+     * ?total=exact|approximate|none: how the page total is obtained; see PageTotal
+     * If-None-Match is answered with 304 before querying (not with ?total=approximate); see JobEtagService
      */
     @GetMapping
-    public ResponseEntity<Page<JobDTO>> getAllJobs(
+    public ResponseEntity<?> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "postedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String total,
+            ServletWebRequest request
     ) {
+        if (notModified(request, total, JobType.GENERAL)) {
+            return null;
+        }
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
+        if (cursor != null) {
+            return ResponseEntity.ok(jobService.filterJobsAfter(JobFilter.NONE,
+                    cursor, size, sort, sortDirection, securityUtil.getCurrentPrincipal()));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<JobDTO> jobs = jobService.getAllJobs(pageable, securityUtil.getCurrentUser());
-        return ResponseEntity.ok(jobs);
+        PageTotal pageTotal = parseTotal(total);
+        Slice<JobDTO> jobs = jobService.getAllJobs(pageable, pageTotal, securityUtil.getCurrentPrincipal());
+        return withTotal(jobs, pageTotal);
     }
 
     /**
      * GET /api/jobs/intern
      * Get paginated intern jobs (served from intern_jobs table)
+     * Supports ?cursor= and ?total= like /api/jobs
      */
     @GetMapping("/intern")
-    public ResponseEntity<Page<JobDTO>> getInternJobs(
+    public ResponseEntity<?> getInternJobs(
             @RequestParam(required = false) String keywords,
             @RequestParam(required = false) String categories,
             @RequestParam(required = false) String locations,
@@ -72,38 +112,55 @@ public class JobController {
             @RequestParam(required = false) String sources,
             @RequestParam(required = false) String position,
             @RequestParam(required = false) String skills,
+            @RequestParam(required = false) Double locationSimilarity,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "postedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String total,
+            ServletWebRequest request
     ) {
-        List<String> keywordList = parseCommaSeparated(keywords);
-        List<InternJobs.JobCategory> categoryList = parseEnumList(categories, InternJobs.JobCategory.class);
-        List<String> locationList = parseCommaSeparated(locations);
-        List<InternJobs.EmploymentType> employmentTypeList = parseEnumList(employmentTypes, InternJobs.EmploymentType.class);
-        List<InternJobs.ExperienceLevel> experienceLevelList = parseEnumList(experienceLevels, InternJobs.ExperienceLevel.class);
-        List<String> companyList = parseCommaSeparated(companies);
-        List<InternJobs.Source> sourceList = parseEnumList(sources, InternJobs.Source.class);
-        List<String> positionList = parseCommaSeparated(position);
-        List<String> skillList = parseCommaSeparated(skills);
+        if (notModified(request, total, JobType.INTERN)) {
+            return null;
+        }
+        JobFilter filter = JobFilter.builder()
+                .keywords(parseCommaSeparated(keywords))
+                .categories(parseEnumList(categories, InternJobs.JobCategory.class))
+                .locations(parseCommaSeparated(locations))
+                .employmentTypes(parseEnumList(employmentTypes, InternJobs.EmploymentType.class))
+                .experienceLevels(parseEnumList(experienceLevels, InternJobs.ExperienceLevel.class))
+                .isRemote(isRemote)
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .companies(parseCommaSeparated(companies))
+                .sources(parseEnumList(sources, InternJobs.Source.class))
+                .positions(parseCommaSeparated(position))
+                .skills(parseCommaSeparated(skills))
+                .locationSimilarity(locationSimilarity)
+                .build();
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
+        if (cursor != null) {
+            return ResponseEntity.ok(internJobsService.filterJobsAfter(filter,
+                    cursor, size, sort, sortDirection, securityUtil.getCurrentPrincipal()));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<JobDTO> jobs = internJobsService.filterJobs(
-                keywordList, categoryList, locationList, employmentTypeList, experienceLevelList,
-                isRemote, minSalary, maxSalary, companyList, sourceList, positionList, skillList, pageable, securityUtil.getCurrentUser()
-        );
-        return ResponseEntity.ok(jobs);
+        PageTotal pageTotal = parseTotal(total);
+        Slice<JobDTO> jobs = internJobsService.filterJobs(
+                filter, pageable, pageTotal, securityUtil.getCurrentPrincipal());
+        return withTotal(jobs, pageTotal);
     }
 
     /**
      * GET /api/jobs/fulltime
      * Get paginated full-time jobs (served from fulltime_jobs table)
+     * Supports ?cursor= and ?total= like /api/jobs
      */
     @GetMapping("/fulltime")
-    public ResponseEntity<Page<JobDTO>> getFulltimeJobs(
+    public ResponseEntity<?> getFulltimeJobs(
             @RequestParam(required = false) String keywords,
             @RequestParam(required = false) String categories,
             @RequestParam(required = false) String locations,
@@ -116,30 +173,46 @@ public class JobController {
             @RequestParam(required = false) String sources,
             @RequestParam(required = false) String position,
             @RequestParam(required = false) String skills,
+            @RequestParam(required = false) Double locationSimilarity,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "postedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String total,
+            ServletWebRequest request
     ) {
-        List<String> keywordList = parseCommaSeparated(keywords);
-        List<FulltimeJobs.JobCategory> categoryList = parseEnumList(categories, FulltimeJobs.JobCategory.class);
-        List<String> locationList = parseCommaSeparated(locations);
-        List<FulltimeJobs.EmploymentType> employmentTypeList = parseEnumList(employmentTypes, FulltimeJobs.EmploymentType.class);
-        List<FulltimeJobs.ExperienceLevel> experienceLevelList = parseEnumList(experienceLevels, FulltimeJobs.ExperienceLevel.class);
-        List<String> companyList = parseCommaSeparated(companies);
-        List<FulltimeJobs.Source> sourceList = parseEnumList(sources, FulltimeJobs.Source.class);
-        List<String> positionList = parseCommaSeparated(position);
-        List<String> skillList = parseCommaSeparated(skills);
+        if (notModified(request, total, JobType.FULLTIME)) {
+            return null;
+        }
+        JobFilter filter = JobFilter.builder()
+                .keywords(parseCommaSeparated(keywords))
+                .categories(parseEnumList(categories, FulltimeJobs.JobCategory.class))
+                .locations(parseCommaSeparated(locations))
+                .employmentTypes(parseEnumList(employmentTypes, FulltimeJobs.EmploymentType.class))
+                .experienceLevels(parseEnumList(experienceLevels, FulltimeJobs.ExperienceLevel.class))
+                .isRemote(isRemote)
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .companies(parseCommaSeparated(companies))
+                .sources(parseEnumList(sources, FulltimeJobs.Source.class))
+                .positions(parseCommaSeparated(position))
+                .skills(parseCommaSeparated(skills))
+                .locationSimilarity(locationSimilarity)
+                .build();
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
+        if (cursor != null) {
+            return ResponseEntity.ok(fulltimeJobsService.filterJobsAfter(filter,
+                    cursor, size, sort, sortDirection, securityUtil.getCurrentPrincipal()));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<JobDTO> jobs = fulltimeJobsService.filterJobs(
-                keywordList, categoryList, locationList, employmentTypeList, experienceLevelList,
-                isRemote, minSalary, maxSalary, companyList, sourceList, positionList, skillList, pageable, securityUtil.getCurrentUser()
-        );
-        return ResponseEntity.ok(jobs);
+        PageTotal pageTotal = parseTotal(total);
+        Slice<JobDTO> jobs = fulltimeJobsService.filterJobs(
+                filter, pageable, pageTotal, securityUtil.getCurrentPrincipal());
+        return withTotal(jobs, pageTotal);
     }
 
     /**
@@ -152,19 +225,23 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "postedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            ServletWebRequest request
     ) {
+        if (notModified(request, listEtag(request, List.of(JobType.GENERAL)))) {
+            return null;
+        }
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<JobDTO> jobs = jobService.getJobsByCategory(category, pageable, securityUtil.getCurrentUser());
+        Page<JobDTO> jobs = jobService.getJobsByCategory(category, pageable, securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(jobs);
     }
 
     /**
      * GET /api/jobs/search/category/{category}
-     * Multi-keyword search within category
+     * Multi-keyword search within category, with spelling correction like /search
      */
     @GetMapping("/search/category/{category}")
     public ResponseEntity<Page<JobDTO>> searchJobsByCategory(
@@ -173,24 +250,31 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "postedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            ServletWebRequest request
     ) {
+        if (notModified(request, listEtag(request, List.of(JobType.GENERAL)))) {
+            return null;
+        }
         List<String> keywordList = parseCommaSeparated(keywords);
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<JobDTO> jobs = jobService.searchJobsByCategory(keywordList, category, pageable, securityUtil.getCurrentUser());
-        return ResponseEntity.ok(jobs);
+        KeywordSearchResult result = jobService.searchJobsByCategory(keywordList, category, pageable, securityUtil.getCurrentPrincipal());
+        return withCorrections(result);
     }
 
     /**
      * GET /api/jobs/filter
      * Advanced multi-filter search
+     * sort=relevance orders results by keyword relevance when keywords are given
+     * locationSimilarity (0-1] also matches misspelled locations by trigram similarity
+     * Supports ?cursor= and ?total= like /api/jobs
      */
     @GetMapping("/filter")
-    public ResponseEntity<Page<JobDTO>> filterJobs(
+    public ResponseEntity<?> filterJobs(
             @RequestParam(required = false) String keywords,
             @RequestParam(required = false) String categories,
             @RequestParam(required = false) String locations,
@@ -203,36 +287,54 @@ public class JobController {
             @RequestParam(required = false) String sources,
             @RequestParam(required = false) String position,
             @RequestParam(required = false) String skills,
+            @RequestParam(required = false) Double locationSimilarity,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "postedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String total,
+            ServletWebRequest request
     ) {
-        List<String> keywordList = parseCommaSeparated(keywords);
-        List<Job.JobCategory> categoryList = parseEnumList(categories, Job.JobCategory.class);
-        List<String> locationList = parseCommaSeparated(locations);
-        List<Job.EmploymentType> employmentTypeList = parseEnumList(employmentTypes, Job.EmploymentType.class);
-        List<Job.ExperienceLevel> experienceLevelList = parseEnumList(experienceLevels, Job.ExperienceLevel.class);
-        List<String> companyList = parseCommaSeparated(companies);
-        List<Job.Source> sourceList = parseEnumList(sources, Job.Source.class);
-        List<String> positionList = parseCommaSeparated(position);
-        List<String> skillList = parseCommaSeparated(skills);
+        if (notModified(request, total, JobType.GENERAL)) {
+            return null;
+        }
+        JobFilter filter = JobFilter.builder()
+                .keywords(parseCommaSeparated(keywords))
+                .categories(parseEnumList(categories, Job.JobCategory.class))
+                .locations(parseCommaSeparated(locations))
+                .employmentTypes(parseEnumList(employmentTypes, Job.EmploymentType.class))
+                .experienceLevels(parseEnumList(experienceLevels, Job.ExperienceLevel.class))
+                .isRemote(isRemote)
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .companies(parseCommaSeparated(companies))
+                .sources(parseEnumList(sources, Job.Source.class))
+                .positions(parseCommaSeparated(position))
+                .skills(parseCommaSeparated(skills))
+                .locationSimilarity(locationSimilarity)
+                .build();
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
+        if (cursor != null) {
+            return ResponseEntity.ok(jobService.filterJobsAfter(filter,
+                    cursor, size, sort, sortDirection, securityUtil.getCurrentPrincipal()));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<JobDTO> jobs = jobService.filterJobs(
-                keywordList, categoryList, locationList, employmentTypeList, experienceLevelList,
-                isRemote, minSalary, maxSalary, companyList, sourceList, positionList, skillList, pageable, securityUtil.getCurrentUser()
-        );
+        PageTotal pageTotal = parseTotal(total);
+        Slice<JobDTO> jobs = jobService.filterJobs(
+                filter, pageable, pageTotal, securityUtil.getCurrentPrincipal());
 
-        return ResponseEntity.ok(jobs);
+        return withTotal(jobs, pageTotal);
     }
 
     /**
      * GET /api/jobs/search
      * Multi-keyword search across all jobs
+     * Misspelled words are corrected before searching; see X-Search-Corrections
+     * sort=relevance orders results by keyword relevance
      */
     @GetMapping("/search")
     public ResponseEntity<Page<JobDTO>> searchJobs(
@@ -240,25 +342,33 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "postedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            ServletWebRequest request
     ) {
+        if (notModified(request, listEtag(request, List.of(JobType.GENERAL)))) {
+            return null;
+        }
         List<String> keywordList = parseCommaSeparated(keywords);
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<JobDTO> jobs = jobService.searchJobs(keywordList, pageable, securityUtil.getCurrentUser());
-        return ResponseEntity.ok(jobs);
+        KeywordSearchResult result = jobService.searchJobs(keywordList, pageable, securityUtil.getCurrentPrincipal());
+        return withCorrections(result);
     }
 
     /**
      * GET /api/jobs/{jobId}
      * Get single job details
+     * If-None-Match is answered with 304 after a lookup of the job's updatedAt only
      */
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobDTO> getJobById(@PathVariable Long jobId) {
-        JobDTO job = jobService.getJobById(jobId, securityUtil.getCurrentUser());
+    public ResponseEntity<JobDTO> getJobById(@PathVariable Long jobId, ServletWebRequest request) {
+        if (notModified(request, jobEtagService.forJob(jobId, describe(request), securityUtil.getCurrentPrincipal()))) {
+            return null;
+        }
+        JobDTO job = jobService.getJobById(jobId, securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(job);
     }
 
@@ -271,15 +381,101 @@ public class JobController {
         return ResponseEntity.ok(jobService.getEmploymentTypeCounts());
     }
 
+    /**
+     * GET /api/jobs/facets?type=GENERAL|INTERN|FULLTIME
+     * Job counts per category, employment type, experience level, source, remote and the top N
+     * companies and locations, for the same filter parameters as /filter (or /intern, /fulltime).
+     * 503 while the facet index is still loading after startup.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<FacetCountsDTO> getFacetCounts(
+            @RequestParam(defaultValue = "GENERAL") JobType type,
+            @RequestParam(required = false) String keywords,
+            @RequestParam(required = false) String categories,
+            @RequestParam(required = false) String locations,
+            @RequestParam(required = false) String employmentTypes,
+            @RequestParam(required = false) String experienceLevels,
+            @RequestParam(required = false) Boolean isRemote,
+            @RequestParam(required = false) Integer minSalary,
+            @RequestParam(required = false) Integer maxSalary,
+            @RequestParam(required = false) String companies,
+            @RequestParam(required = false) String sources,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) String skills,
+            @RequestParam(required = false) Double locationSimilarity,
+            @RequestParam(defaultValue = "10") int topN
+    ) {
+        return jobFacetService.getFacetCounts(
+                        type, parseCommaSeparated(keywords), parseCommaSeparated(categories),
+                        parseCommaSeparated(locations), parseCommaSeparated(employmentTypes),
+                        parseCommaSeparated(experienceLevels), isRemote, minSalary, maxSalary,
+                        parseCommaSeparated(companies), parseCommaSeparated(sources),
+                        parseCommaSeparated(position), parseCommaSeparated(skills), locationSimilarity,
+                        Math.max(1, Math.min(topN, 100)))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    /**
+     * GET /api/jobs/salary-histogram?type=GENERAL|INTERN|FULLTIME&buckets=20
+     * Job counts per salary bucket for the same filter parameters as /facets (minSalary and maxSalary
+     * excepted, so a salary slider can show what it selects from), plus the jobs without a salary.
+     * 503 while the in-memory indexes are still loading after startup.
+     */
+    @GetMapping("/salary-histogram")
+    public ResponseEntity<SalaryHistogramDTO> getSalaryHistogram(
+            @RequestParam(defaultValue = "GENERAL") JobType type,
+            @RequestParam(required = false) String keywords,
+            @RequestParam(required = false) String categories,
+            @RequestParam(required = false) String locations,
+            @RequestParam(required = false) String employmentTypes,
+            @RequestParam(required = false) String experienceLevels,
+            @RequestParam(required = false) Boolean isRemote,
+            @RequestParam(required = false) String companies,
+            @RequestParam(required = false) String sources,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) String skills,
+            @RequestParam(required = false) Double locationSimilarity,
+            @RequestParam(defaultValue = "20") int buckets
+    ) {
+        return jobFacetService.getSalaryHistogram(
+                        type, parseCommaSeparated(keywords), parseCommaSeparated(categories),
+                        parseCommaSeparated(locations), parseCommaSeparated(employmentTypes),
+                        parseCommaSeparated(experienceLevels), isRemote,
+                        parseCommaSeparated(companies), parseCommaSeparated(sources),
+                        parseCommaSeparated(position), parseCommaSeparated(skills), locationSimilarity,
+                        Math.max(1, Math.min(buckets, 100)))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    /**
+     * GET /api/jobs/suggest?field=company|title|location&prefix=
+     * Typeahead for the filter inputs: values with a word starting with prefix, most active jobs first.
+     * Served from memory; never queries the database.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam String field,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        SuggestionIndex.Field suggestField = SuggestionIndex.Field.valueOf(field.trim().toUpperCase());
+        return ResponseEntity.ok(suggestionIndex.suggest(suggestField, prefix, limit));
+    }
+
     // ================== SAVED JOBS ==================
 
     /**
-     * POST /api/jobs/{jobId}/save
-     * Save a job
+     * POST /api/jobs/{jobId}/save?type=GENERAL|INTERN|FULLTIME
+     * Save a job (type defaults to GENERAL)
      */
     @PostMapping("/{jobId}/save")
-    public ResponseEntity<Void> saveJob(@PathVariable Long jobId) {
-        jobService.saveJob(jobId, securityUtil.getCurrentUser());
+    public ResponseEntity<Void> saveJob(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "GENERAL") JobType type
+    ) {
+        jobService.saveJob(type, jobId, securityUtil.getCurrentPrincipal());
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
@@ -288,8 +484,11 @@ public class JobController {
      * Unsave a job
      */
     @DeleteMapping("/{jobId}/save")
-    public ResponseEntity<Void> unsaveJob(@PathVariable Long jobId) {
-        jobService.unsaveJob(jobId, securityUtil.getCurrentUser());
+    public ResponseEntity<Void> unsaveJob(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "GENERAL") JobType type
+    ) {
+        jobService.unsaveJob(type, jobId, securityUtil.getCurrentPrincipal());
         return ResponseEntity.noContent().build();
     }
 
@@ -302,12 +501,16 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "savedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            ServletWebRequest request
     ) {
+        if (notModified(request, listEtag(request, EnumSet.allOf(JobType.class)))) {
+            return null;
+        }
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
-        Page<JobDTO> jobs = jobService.getSavedJobs(pageable, securityUtil.getCurrentUser());
+        Page<JobDTO> jobs = jobService.getSavedJobs(pageable, securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(jobs);
     }
 
@@ -316,8 +519,11 @@ public class JobController {
      * Check if job is saved
      */
     @GetMapping("/{jobId}/is-saved")
-    public ResponseEntity<SavedStatusDTO> isJobSaved(@PathVariable Long jobId) {
-        SavedStatusDTO status = jobService.isJobSaved(jobId, securityUtil.getCurrentUser());
+    public ResponseEntity<SavedStatusDTO> isJobSaved(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "GENERAL") JobType type
+    ) {
+        SavedStatusDTO status = jobService.isJobSaved(type, jobId, securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(status);
     }
 
@@ -326,13 +532,14 @@ public class JobController {
     @PostMapping("/{jobId}/status")
     public ResponseEntity<AppliedStatusDTO> updateJobStatus(
             @PathVariable Long jobId,
+            @RequestParam(defaultValue = "GENERAL") JobType type,
             @RequestBody(required = false) UpdateApplicationStatusDTO request
     ) {
         AppliedJob.ApplicationStatus status = (request != null && request.getStatus() != null)
                 ? request.getStatus()
                 : AppliedJob.ApplicationStatus.APPLIED;
 
-        AppliedStatusDTO result = jobService.updateJobStatus(jobId, status, securityUtil.getCurrentUser());
+        AppliedStatusDTO result = jobService.updateJobStatus(type, jobId, status, securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(result);
     }
 
@@ -342,8 +549,11 @@ public class JobController {
      * Job returns to "Not Applied" state
      */
     @DeleteMapping("/{jobId}/status")
-    public ResponseEntity<Void> withdrawApplication(@PathVariable Long jobId) {
-        jobService.withdrawApplication(jobId, securityUtil.getCurrentUser());
+    public ResponseEntity<Void> withdrawApplication(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "GENERAL") JobType type
+    ) {
+        jobService.withdrawApplication(type, jobId, securityUtil.getCurrentPrincipal());
         return ResponseEntity.noContent().build();
     }
 
@@ -352,8 +562,11 @@ public class JobController {
      * Get current application status for a job
      */
     @GetMapping("/{jobId}/status")
-    public ResponseEntity<AppliedStatusDTO> getJobStatus(@PathVariable Long jobId) {
-        AppliedStatusDTO status = jobService.getJobStatus(jobId, securityUtil.getCurrentUser());
+    public ResponseEntity<AppliedStatusDTO> getJobStatus(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "GENERAL") JobType type
+    ) {
+        AppliedStatusDTO status = jobService.getJobStatus(type, jobId, securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(status);
     }
 
@@ -369,17 +582,45 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "appliedAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            ServletWebRequest request
     ) {
+        if (notModified(request, listEtag(request, EnumSet.allOf(JobType.class)))) {
+            return null;
+        }
         List<AppliedJob.ApplicationStatus> statusList = parseEnumList(statuses, AppliedJob.ApplicationStatus.class);
 
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
-        Page<JobDTO> jobs = jobService.getAppliedJobs(statusList, pageable, securityUtil.getCurrentUser());
+        Page<JobDTO> jobs = jobService.getAppliedJobs(statusList, pageable, securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(jobs);
     }
 
+    /**
+     * GET /api/jobs/export?format=csv|ndjson
+     * Download of the user's whole tracker: every saved or applied job, once, with both states.
+     * Streamed row by row as it is read; see UserJobListService#exportPipeline
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPipeline(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request
+    ) {
+        ExportFormat exportFormat = ExportFormat.valueOf(format.trim().toUpperCase());
+        UserPrincipal user = securityUtil.getCurrentPrincipal();
+        // Never buffered whole to compute a shallow ETag
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+
+        StreamingResponseBody body = out -> jobService.exportPipeline(exportFormat, user, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("trackhire-pipeline." + exportFormat.getExtension())
+                        .build().toString())
+                .body(body);
+    }
+
     // ================== USER STATISTICS ==================
 
     /**
@@ -388,12 +629,64 @@ public class JobController {
      */
     @GetMapping("/stats/user")
     public ResponseEntity<UserStatsDTO> getUserStats() {
-        UserStatsDTO stats = jobService.getUserStats(securityUtil.getCurrentUser());
+        UserStatsDTO stats = jobService.getUserStats(securityUtil.getCurrentPrincipal());
         return ResponseEntity.ok(stats);
     }
 
     // ================== HELPER METHODS ==================
 
+    // Approximate totals may be refined in the background without a catalog change, so they go untagged
+    private boolean notModified(ServletWebRequest request, String total, JobType type) {
+        return parseTotal(total) != PageTotal.APPROXIMATE && notModified(request, listEtag(request, List.of(type)));
+    }
+
+    private Optional<String> listEtag(ServletWebRequest request, Collection<JobType> types) {
+        return jobEtagService.forList(types, describe(request), securityUtil.getCurrentPrincipal());
+    }
+
+    /**
+     * True when the client's copy (If-None-Match) is current; the response is then a bodiless 304 and
+     * the handler returns null before querying. Otherwise the ETag goes out with the response.
+     */
+    private boolean notModified(ServletWebRequest request, Optional<String> etag) {
+        if (etag.isEmpty()) {
+            return false;
+        }
+        return request.checkNotModified(etag.get());
+    }
+
+    // The response an ETag stands for: path, query string and requested representation
+    private static String describe(ServletWebRequest request) {
+        HttpServletRequest servletRequest = request.getRequest();
+        return servletRequest.getRequestURI() + "?" + servletRequest.getQueryString()
+                + "|" + servletRequest.getHeader(HttpHeaders.ACCEPT);
+    }
+
+    private PageTotal parseTotal(String total) {
+        return PageTotal.valueOf(total.trim().toUpperCase());
+    }
+
+    // Approximate totals come from polled and cached counts and may lag behind the catalog
+    private ResponseEntity<Slice<JobDTO>> withTotal(Slice<JobDTO> jobs, PageTotal total) {
+        if (total != PageTotal.APPROXIMATE) {
+            return ResponseEntity.ok(jobs);
+        }
+        return ResponseEntity.ok().header(TOTAL_APPROXIMATE_HEADER, "true").body(jobs);
+    }
+
+    // Corrected words as "developper=developer, kubernets=kubernetes"
+    private ResponseEntity<Page<JobDTO>> withCorrections(KeywordSearchResult result) {
+        if (result.corrections().isEmpty()) {
+            return ResponseEntity.ok(result.jobs());
+        }
+        String corrections = result.corrections().entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", "));
+        return ResponseEntity.ok()
+                .header(SEARCH_CORRECTIONS_HEADER, corrections)
+                .body(result.jobs());
+    }
+
     private List<String> parseCommaSeparated(String input) {
         if (input == null || input.trim().isEmpty()) {
             return null;
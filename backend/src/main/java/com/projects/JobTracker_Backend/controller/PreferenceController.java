@@ -1,13 +1,11 @@
 package com.projects.JobTracker_Backend.controller;
 
 import com.projects.JobTracker_Backend.dto.PreferenceRequest;
-import com.projects.JobTracker_Backend.model.User;
-import com.projects.JobTracker_Backend.repository.UserRepository;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
 import com.projects.JobTracker_Backend.service.PreferenceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,26 +17,19 @@ import java.util.Map;
 public class PreferenceController {
 
     private final PreferenceService preferenceService;
-    private final UserRepository userRepository;
 
     @PostMapping
     public ResponseEntity<?> savePreferences(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestBody PreferenceRequest request) {
-        
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+
         preferenceService.saveUserPreferredCompanies(user.getId(), request.getCompanies());
         
         return ResponseEntity.ok(Map.of("message", "Preferences saved successfully"));
     }
 
     @GetMapping
-    public ResponseEntity<List<String>> getPreferences(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
+    public ResponseEntity<List<String>> getPreferences(@AuthenticationPrincipal UserPrincipal user) {
         return ResponseEntity.ok(preferenceService.getUserPreferredCompanies(user.getId()));
     }
 }
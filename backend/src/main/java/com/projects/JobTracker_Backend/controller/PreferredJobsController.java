@@ -1,8 +1,7 @@
 package com.projects.JobTracker_Backend.controller;
 
 import com.projects.JobTracker_Backend.dto.JobDTO;
-import com.projects.JobTracker_Backend.model.User;
-import com.projects.JobTracker_Backend.repository.UserRepository;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
 import com.projects.JobTracker_Backend.service.JobService;
 import com.projects.JobTracker_Backend.service.PreferenceService;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +11,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -27,11 +25,10 @@ public class PreferredJobsController {
 
     private final JobService jobService;
     private final PreferenceService preferenceService;
-    private final UserRepository userRepository;
 
     @GetMapping
     public ResponseEntity<Page<JobDTO>> getPreferredJobs(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal user,
             @RequestParam(defaultValue = "all") String type,
             @RequestParam(required = false) String position,
             @RequestParam(required = false) String company,
@@ -40,9 +37,6 @@ public class PreferredJobsController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         List<String> preferredCompanies = preferenceService.getUserPreferredCompanies(user.getId());
 
         Pageable pageable = PageRequest.of(page, size);
@@ -0,0 +1,25 @@
+package com.projects.JobTracker_Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated feed. Pass {@code nextCursor} as ?cursor= for the following page;
+ * it is null on the last page. Pages never repeat or skip a job, even while jobs are ingested;
+ * {@code catalogChanged} tells that some were since the scroll started, e.g. to offer a refresh.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private String nextCursor;
+    private Integer size;
+    private Long catalogVersion;
+    private Boolean catalogChanged;
+}
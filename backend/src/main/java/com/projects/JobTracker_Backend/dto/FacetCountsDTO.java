@@ -0,0 +1,28 @@
+package com.projects.JobTracker_Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Job counts per filter value for the current filter. Each facet is counted as if its own
+ * selection were cleared, so the counts show what selecting another value would return.
+ * Companies and locations hold the top N values only.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountsDTO {
+    private Long total;
+    private Map<String, Long> jobCategory;
+    private Map<String, Long> employmentType;
+    private Map<String, Long> experienceLevel;
+    private Map<String, Long> source;
+    private Map<String, Long> isRemote;
+    private Map<String, Long> companies;
+    private Map<String, Long> locations;
+}
@@ -1,5 +1,6 @@
 package com.projects.JobTracker_Backend.dto;
 
+import com.projects.JobTracker_Backend.enums.JobType;
 import com.projects.JobTracker_Backend.model.BaseJob;
 import com.projects.JobTracker_Backend.model.FulltimeJobs;
 import com.projects.JobTracker_Backend.model.InternJobs;
@@ -11,13 +12,15 @@ import lombok.NoArgsConstructor;
 import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobDTO {
     private Long id;
+    private JobType jobType; // table the id belongs to; pass as ?type= on save / status calls
     private String externalId;
     private Job.JobCategory jobCategory;
     private Job.Source source;
@@ -27,7 +30,8 @@ public class JobDTO {
     private String location;
     private String department;
     private Job.EmploymentType employmentType;
-    private String description;
+    private String description; // detail responses only; lists carry descriptionSnippet
+    private String descriptionSnippet;
     private String applyUrl;
     private LocalDateTime postedAt;
     private Boolean isRemote;
@@ -37,6 +41,7 @@ public class JobDTO {
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private List<String> skills; // dictionary skills found in the title / description
 
     // User-specific fields (populated when user is authenticated)
     private Boolean isSaved;
@@ -53,7 +58,9 @@ public static JobDTO fromEntity(BaseJob baseJob) {
     // Unwrap Hibernate proxy before instanceof checks
     BaseJob unproxied = (BaseJob) Hibernate.unproxy(baseJob);
 
-    if (unproxied instanceof Job) {
+    if (unproxied instanceof JobSummaryDTO summary) {
+        return fromSummary(summary);
+    } else if (unproxied instanceof Job) {
         return fromEntity((Job) unproxied);
     } else if (unproxied instanceof InternJobs) {
         return fromEntity((InternJobs) unproxied);
@@ -63,9 +70,39 @@ public static JobDTO fromEntity(BaseJob baseJob) {
 
     throw new IllegalArgumentException("Unknown job type: " + unproxied.getClass());
     }
+    public static JobDTO fromSummary(JobSummaryDTO job) {
+        return JobDTO.builder()
+                .id(job.getId())
+                .jobType(job.getJobType())
+                .externalId(job.getExternalId())
+                .jobCategory(job.getJobCategory())
+                .source(job.getSource())
+                .company(job.getCompany())
+                .companyLogo(job.getCompanyLogo())
+                .title(job.getTitle())
+                .location(job.getLocation())
+                .department(job.getDepartment())
+                .employmentType(job.getEmploymentType())
+                .descriptionSnippet(job.getDescriptionSnippet())
+                .applyUrl(job.getApplyUrl())
+                .postedAt(job.getPostedAt())
+                .isRemote(job.getIsRemote())
+                .experienceLevel(job.getExperienceLevel())
+                .minSalary(job.getMinSalary())
+                .maxSalary(job.getMaxSalary())
+                .isActive(job.getIsActive())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .isSaved(false)
+                .isApplied(false)
+                .isFollowed(false)
+                .build();
+    }
+
     public static JobDTO fromEntity(Job job) {
         return JobDTO.builder()
                 .id(job.getId())
+                .jobType(JobType.GENERAL)
                 .externalId(job.getExternalId())
                 .jobCategory(job.getJobCategory())
                 .source(job.getSource())
@@ -94,6 +131,7 @@ public static JobDTO fromEntity(BaseJob baseJob) {
     public static JobDTO fromEntity(InternJobs job) {
         return JobDTO.builder()
                 .id(job.getId())
+                .jobType(JobType.INTERN)
                 .externalId(job.getExternalId())
                 .jobCategory(job.getJobCategory() != null ? Job.JobCategory.valueOf(job.getJobCategory().name()) : null)
                 .source(job.getSource() != null ? Job.Source.valueOf(job.getSource().name()) : null)
@@ -122,6 +160,7 @@ public static JobDTO fromEntity(BaseJob baseJob) {
     public static JobDTO fromEntity(FulltimeJobs job) {
         return JobDTO.builder()
                 .id(job.getId())
+                .jobType(JobType.FULLTIME)
                 .externalId(job.getExternalId())
                 .jobCategory(job.getJobCategory() != null ? Job.JobCategory.valueOf(job.getJobCategory().name()) : null)
                 .source(job.getSource() != null ? Job.Source.valueOf(job.getSource().name()) : null)
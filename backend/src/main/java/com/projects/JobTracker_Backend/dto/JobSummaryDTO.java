@@ -0,0 +1,44 @@
+package com.projects.JobTracker_Backend.dto;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.BaseJob;
+import com.projects.JobTracker_Backend.model.Job;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A job as listed: every column but the description, which is replaced by the precomputed
+ * description_snippet. Loaded by the summary queries of JobCatalogRepository, which never select
+ * the description; {@link JobDTO#fromEntity(BaseJob)} turns it into a list item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryDTO implements BaseJob {
+    private Long id;
+    private JobType jobType;
+    private String externalId;
+    private Job.JobCategory jobCategory;
+    private Job.Source source;
+    private String company;
+    private String companyLogo;
+    private String title;
+    private String location;
+    private String department;
+    private Job.EmploymentType employmentType;
+    private String descriptionSnippet;
+    private String applyUrl;
+    private LocalDateTime postedAt;
+    private Boolean isRemote;
+    private Job.ExperienceLevel experienceLevel;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.projects.JobTracker_Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Salary distribution of the jobs matching the current filter. Jobs are bucketed by the midpoint of
+ * their salary range; jobs without a salary are only counted in {@code unknown}. The last bucket has
+ * no upper bound and also holds the highest salaries.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryHistogramDTO {
+    private Long total;
+    private Long unknown;
+    private Long bucketSize;
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private Long from;
+        private Long to;
+        private Long count;
+    }
+}
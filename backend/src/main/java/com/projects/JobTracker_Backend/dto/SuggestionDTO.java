@@ -0,0 +1,13 @@
+package com.projects.JobTracker_Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String value;
+    private Long count; // active jobs with this value across all job tables
+}
@@ -0,0 +1,47 @@
+package com.projects.JobTracker_Backend.enums;
+
+import com.projects.JobTracker_Backend.model.BaseJob;
+import com.projects.JobTracker_Backend.model.FulltimeJobs;
+import com.projects.JobTracker_Backend.model.InternJobs;
+import com.projects.JobTracker_Backend.model.Job;
+import org.hibernate.Hibernate;
+
+/**
+ * Job table discriminator used by the polymorphic job_type column
+ * on saved_jobs and applied_jobs. Names match the @AnyDiscriminatorValue strings.
+ */
+public enum JobType {
+    GENERAL(Job.class, "jobs"),
+    INTERN(InternJobs.class, "intern_jobs"),
+    FULLTIME(FulltimeJobs.class, "fulltime_jobs");
+
+    private final Class<? extends BaseJob> entityClass;
+    private final String tableName;
+
+    JobType(Class<? extends BaseJob> entityClass, String tableName) {
+        this.entityClass = entityClass;
+        this.tableName = tableName;
+    }
+
+    public Class<? extends BaseJob> getEntityClass() {
+        return entityClass;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public static JobType of(BaseJob job) {
+        // Unwrap proxy to get the real entity class
+        return fromEntityClass(Hibernate.unproxy(job).getClass());
+    }
+
+    public static JobType fromEntityClass(Class<?> entityClass) {
+        for (JobType type : values()) {
+            if (type.entityClass.isAssignableFrom(entityClass)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown job type: " + entityClass);
+    }
+}
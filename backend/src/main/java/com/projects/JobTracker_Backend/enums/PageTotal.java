@@ -0,0 +1,10 @@
+package com.projects.JobTracker_Backend.enums;
+
+/**
+ * How a listing page reports its total (?total= on the job listings).
+ * EXACT counts every request, APPROXIMATE takes the total from cached counts (flagged by the
+ * X-Total-Approximate header), NONE returns a slice that only tells whether another page follows.
+ */
+public enum PageTotal {
+    EXACT, APPROXIMATE, NONE
+}
@@ -10,7 +10,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applied_jobs")
+@Table(name = "applied_jobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_applied_jobs_user_job", columnNames = {"user_id", "job_type", "job_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,43 @@
+package com.projects.JobTracker_Backend.model;
+
+/**
+ * SQL of the description_snippet column shared by the three job tables: the start of the description,
+ * shown on job cards instead of the full description.
+ *
+ * Like the salary columns it is generated, so every writer keeps it in sync (including the ingestion
+ * scripts), and list queries read it without touching the description. The expression sticks to
+ * functions PostgreSQL and H2 both implement the same way, so it only turns tabs and line breaks into
+ * spaces; runs of whitespace are collapsed by {@link #normalize} when a row is mapped.
+ */
+public final class DescriptionSnippet {
+
+    public static final int LENGTH = 200;
+
+    public static final String SQL =
+            "left(btrim(translate(coalesce(description, ''), chr(9) || chr(10) || chr(13), '   ')), " + LENGTH + ")";
+
+    private DescriptionSnippet() {
+    }
+
+    /** The snippet with each run of whitespace collapsed to one space. */
+    public static String normalize(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(snippet.length());
+        boolean space = false;
+        for (int i = 0; i < snippet.length(); i++) {
+            char c = snippet.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space && !normalized.isEmpty()) {
+                normalized.append(' ');
+            }
+            space = false;
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+}
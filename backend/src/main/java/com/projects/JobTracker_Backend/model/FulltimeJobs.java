@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GeneratedColumn;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -16,7 +17,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_active_posted", columnList = "is_active, posted_at"),
         @Index(name = "idx_company", columnList = "company"),
         @Index(name = "idx_location", columnList = "location"),
-        @Index(name = "idx_employment_type", columnList = "employment_type")
+        @Index(name = "idx_employment_type", columnList = "employment_type"),
+        @Index(name = "idx_fulltime_jobs_salary_range", columnList = "is_active, salary_ceiling, salary_floor"),
+        @Index(name = "idx_fulltime_jobs_active_posted_id", columnList = "is_active, posted_at, id")
 })
 @Data
 @NoArgsConstructor
@@ -58,6 +61,10 @@ public class FulltimeJobs implements BaseJob {
     @Column(columnDefinition = "LONGTEXT")
     private String description;
 
+    @GeneratedColumn(DescriptionSnippet.SQL)
+    @Column(name = "description_snippet", length = DescriptionSnippet.LENGTH)
+    private String descriptionSnippet;
+
     @Column(name = "apply_url", nullable = false, length = 2048)
     private String applyUrl;
 
@@ -77,6 +84,18 @@ public class FulltimeJobs implements BaseJob {
     @Column(name = "max_salary")
     private Integer maxSalary = 0;
 
+    @GeneratedColumn(SalaryRange.KNOWN)
+    @Column(name = "salary_known")
+    private Boolean salaryKnown;
+
+    @GeneratedColumn(SalaryRange.FLOOR)
+    @Column(name = "salary_floor")
+    private Integer salaryFloor;
+
+    @GeneratedColumn(SalaryRange.CEILING)
+    @Column(name = "salary_ceiling")
+    private Integer salaryCeiling;
+
     @Column(name = "is_active")
     private Boolean isActive = true;
 
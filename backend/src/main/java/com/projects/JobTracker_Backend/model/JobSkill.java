@@ -0,0 +1,59 @@
+package com.projects.JobTracker_Backend.model;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * A skill found in a job's title or description by the skill tagger; see
+ * {@link com.projects.JobTracker_Backend.search.SkillDictionary} for the ids.
+ * The (job_type, skill_id, job_id) index serves the skills filter.
+ */
+@Entity
+@Table(name = "job_skills", indexes = {
+        @Index(name = "idx_job_skills_skill", columnList = "job_type, skill_id, job_id")
+})
+@IdClass(JobSkill.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSkill implements Persistable<JobSkill.Key> {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", length = 16)
+    private JobType jobType;
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Id
+    @Column(name = "skill_id")
+    private Integer skillId;
+
+    @Override
+    public Key getId() {
+        return new Key(jobType, jobId, skillId);
+    }
+
+    // Rows are only ever inserted after the job's old rows are deleted; skip the merge lookup
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private JobType jobType;
+        private Long jobId;
+        private Integer skillId;
+    }
+}
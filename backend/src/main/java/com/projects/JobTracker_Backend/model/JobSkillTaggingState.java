@@ -0,0 +1,35 @@
+package com.projects.JobTracker_Backend.model;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * How far the skill tagger has got in one job table: jobs up to max_id and updated up to
+ * max_updated_at are tagged with the dictionary of the given version.
+ */
+@Entity
+@Table(name = "job_skill_tagging_state")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSkillTaggingState {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", length = 16)
+    private JobType jobType;
+
+    @Column(name = "dictionary_version", nullable = false)
+    private Long dictionaryVersion;
+
+    @Column(name = "max_id", nullable = false)
+    private Long maxId;
+
+    @Column(name = "max_updated_at")
+    private LocalDateTime maxUpdatedAt;
+}
@@ -0,0 +1,24 @@
+package com.projects.JobTracker_Backend.model;
+
+/**
+ * SQL of the normalized salary columns shared by the three job tables.
+ *
+ * Ingestion writes 0 (or null) for a missing bound and sometimes swaps min and max. The database
+ * derives salary_floor <= salary_ceiling from whichever bounds are set, so a job with only one bound
+ * gets a one-point range, and salary_known is false when neither is set. The columns are generated,
+ * so they stay correct for every writer, including the ingestion scripts.
+ */
+public final class SalaryRange {
+
+    public static final String KNOWN =
+            "coalesce(min_salary, 0) > 0 or coalesce(max_salary, 0) > 0";
+
+    public static final String FLOOR =
+            "nullif(least(coalesce(nullif(min_salary, 0), max_salary), coalesce(nullif(max_salary, 0), min_salary)), 0)";
+
+    public static final String CEILING =
+            "nullif(greatest(coalesce(nullif(min_salary, 0), max_salary), coalesce(nullif(max_salary, 0), min_salary)), 0)";
+
+    private SalaryRange() {
+    }
+}
@@ -10,7 +10,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "saved_jobs")
+@Table(name = "saved_jobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_saved_jobs_user_job", columnNames = {"user_id", "job_type", "job_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
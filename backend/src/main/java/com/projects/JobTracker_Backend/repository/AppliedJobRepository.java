@@ -4,11 +4,11 @@ import com.projects.JobTracker_Backend.model.AppliedJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +23,41 @@ public interface AppliedJobRepository extends JpaRepository<AppliedJob, Long> {
     @Query("SELECT a FROM AppliedJob a WHERE a.user.id = :userId AND a.job.id = :jobId AND TYPE(a.job) = :jobType")
     Optional<AppliedJob> findByUserIdAndJobIdAndJobType(Long userId, Long jobId, Class<?> jobType);
 
+    // Batch lookup of [jobId, status, appliedAt] for the given jobs (all of one type)
+    @Query("SELECT a.job.id, a.status, a.appliedAt FROM AppliedJob a WHERE a.user.id = :userId AND TYPE(a.job) = :jobType AND a.job.id IN :jobIds")
+    List<Object[]> findApplicationStates(Long userId, Class<?> jobType, Collection<Long> jobIds);
+
+    // All (job_type, job_id, status, applied_at) rows of a user, used to build the in-memory interaction index
+    @Query(value = "SELECT a.job_type, a.job_id, a.status, a.applied_at FROM {h-schema}applied_jobs a WHERE a.user_id = :userId", nativeQuery = true)
+    List<Object[]> findAllApplicationStatesByUserId(Long userId);
+
+    // Page of applied_jobs row ids only; the job columns are fetched by findAppliedJobCards
+    @Query(value = "SELECT a.id FROM AppliedJob a WHERE a.user.id = :userId",
+           countQuery = "SELECT COUNT(a) FROM AppliedJob a WHERE a.user.id = :userId")
+    Page<Long> findIdsByUserId(Long userId, Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM AppliedJob a WHERE a.user.id = :userId AND a.status IN :statuses",
+           countQuery = "SELECT COUNT(a) FROM AppliedJob a WHERE a.user.id = :userId AND a.status IN :statuses")
+    Page<Long> findIdsByUserIdAndStatusIn(Long userId, List<AppliedJob.ApplicationStatus> statuses, Pageable pageable);
+
+    // One statement for a whole page: a branch per job table, each left-joining saved_jobs.
+    // Columns: applied row id, job_type, JobCardQueries.JOB_COLUMNS, status, applied_at, saved row id (null if not saved)
+    @Query(value = "SELECT a.id, a.job_type, " + JobCardQueries.JOB_COLUMNS + ", a.status, a.applied_at, s.id " +
+            "FROM {h-schema}applied_jobs a JOIN {h-schema}jobs j ON j.id = a.job_id " +
+            "LEFT JOIN {h-schema}saved_jobs s ON s.user_id = a.user_id AND s.job_type = a.job_type AND s.job_id = a.job_id " +
+            "WHERE a.id IN :appliedJobIds AND a.job_type = 'GENERAL'" +
+            " UNION ALL " +
+            "SELECT a.id, a.job_type, " + JobCardQueries.JOB_COLUMNS + ", a.status, a.applied_at, s.id " +
+            "FROM {h-schema}applied_jobs a JOIN {h-schema}intern_jobs j ON j.id = a.job_id " +
+            "LEFT JOIN {h-schema}saved_jobs s ON s.user_id = a.user_id AND s.job_type = a.job_type AND s.job_id = a.job_id " +
+            "WHERE a.id IN :appliedJobIds AND a.job_type = 'INTERN'" +
+            " UNION ALL " +
+            "SELECT a.id, a.job_type, " + JobCardQueries.JOB_COLUMNS + ", a.status, a.applied_at, s.id " +
+            "FROM {h-schema}applied_jobs a JOIN {h-schema}fulltime_jobs j ON j.id = a.job_id " +
+            "LEFT JOIN {h-schema}saved_jobs s ON s.user_id = a.user_id AND s.job_type = a.job_type AND s.job_id = a.job_id " +
+            "WHERE a.id IN :appliedJobIds AND a.job_type = 'FULLTIME'", nativeQuery = true)
+    List<Object[]> findAppliedJobCards(Collection<Long> appliedJobIds);
+
     // Get all applied jobs for a user
     Page<AppliedJob> findByUserId(Long userId, Pageable pageable);
 
@@ -43,8 +78,32 @@ public interface AppliedJobRepository extends JpaRepository<AppliedJob, Long> {
     // Count by status for user
     long countByUserIdAndStatus(Long userId, AppliedJob.ApplicationStatus status);
 
-    // Delete applied job by type
-    @Modifying
-    @Query("DELETE FROM AppliedJob a WHERE a.user.id = :userId AND a.job.id = :jobId AND TYPE(a.job) = :jobType")
-    void deleteByUserIdAndJobIdAndJobType(Long userId, Long jobId, Class<?> jobType);
+    // Create or update the application in one statement on uk_applied_jobs_user_job.
+    // Returns one row [applied_at, previous status]: an existing application keeps its applied_at,
+    // and the previous status (null for a new application) is read from the pre-statement snapshot.
+    @Query(value = "WITH previous AS (SELECT status FROM {h-schema}applied_jobs " +
+            "WHERE user_id = :userId AND job_type = :jobType AND job_id = :jobId), " +
+            "upserted AS (INSERT INTO {h-schema}applied_jobs (user_id, job_type, job_id, status, applied_at) " +
+            "VALUES (:userId, :jobType, :jobId, :status, :appliedAt) " +
+            "ON CONFLICT (user_id, job_type, job_id) DO UPDATE SET status = EXCLUDED.status " +
+            "RETURNING applied_at) " +
+            "SELECT upserted.applied_at, (SELECT status FROM previous) FROM upserted", nativeQuery = true)
+    List<Object[]> upsertStatus(Long userId, String jobType, Long jobId, String status, LocalDateTime appliedAt);
+
+    // Delete applied job by type; returns the removed [status, applied_at], empty when there was no application
+    @Query(value = "DELETE FROM {h-schema}applied_jobs WHERE user_id = :userId AND job_type = :jobType AND job_id = :jobId " +
+            "RETURNING status, applied_at", nativeQuery = true)
+    List<Object[]> deleteReturningState(Long userId, String jobType, Long jobId);
+
+    // All dashboard counters of a user in one statement, one row per application status the user has
+    // (a single row with a null status when there is none).
+    // Columns: total saved, saved since, status, applied with that status, of which applied since
+    @Query(value = "SELECT s.total_saved, s.saved_since, a.status, a.applied, a.applied_since " +
+            "FROM (SELECT COUNT(*) AS total_saved, " +
+            "COUNT(*) FILTER (WHERE saved_at >= :since) AS saved_since " +
+            "FROM {h-schema}saved_jobs WHERE user_id = :userId) s " +
+            "LEFT JOIN (SELECT status, COUNT(*) AS applied, " +
+            "COUNT(*) FILTER (WHERE applied_at >= :since) AS applied_since " +
+            "FROM {h-schema}applied_jobs WHERE user_id = :userId GROUP BY status) a ON true", nativeQuery = true)
+    List<Object[]> findUserStats(Long userId, LocalDateTime since);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.projects.JobTracker_Backend.repository;
+
+/**
+ * SQL fragments shared by the saved / applied page queries.
+ * The three job tables have identical columns, so one select list (aliased "j") serves
+ * every discriminator branch; UserJobListService reads the columns in this order.
+ */
+public final class JobCardQueries {
+
+    private JobCardQueries() {
+    }
+
+    public static final String JOB_COLUMNS =
+            "j.id, j.external_id, j.job_category, j.source, j.company, j.company_logo, j.title, j.location, " +
+            "j.department, j.employment_type, j.description_snippet, j.apply_url, j.posted_at, j.is_remote, " +
+            "j.experience_level, j.min_salary, j.max_salary, j.is_active, j.created_at, j.updated_at";
+
+    public static final int JOB_COLUMN_COUNT = 20;
+
+    // Rows per round trip when an export streams a user's job cards
+    public static final String EXPORT_FETCH_SIZE = "500";
+}
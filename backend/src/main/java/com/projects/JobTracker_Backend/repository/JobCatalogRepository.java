@@ -0,0 +1,387 @@
+package com.projects.JobTracker_Backend.repository;
+
+import com.projects.JobTracker_Backend.dto.JobSummaryDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.DescriptionSnippet;
+import com.projects.JobTracker_Backend.model.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Catalog-wide reads used by keyword search and the in-memory search structures. The three job tables share
+ * their columns, so these queries take the table from {@link JobType} instead of being
+ * repeated on each job repository.
+ */
+@Repository
+public class JobCatalogRepository {
+
+    // Every row read for an in-memory mirror starts with these, followed by the requested columns
+    private static final String ROW_PREFIX = "id, is_active, updated_at";
+
+    // Entity attributes of a JobSummaryDTO: every column but the description
+    private static final List<String> SUMMARY_ATTRIBUTES = List.of(
+            "id", "externalId", "jobCategory", "source", "company", "companyLogo", "title", "location",
+            "department", "employmentType", "descriptionSnippet", "applyUrl", "postedAt", "isRemote",
+            "experienceLevel", "minSalary", "maxSalary", "isActive", "createdAt", "updatedAt");
+
+    /**
+     * Orders of full-text matches. Ties on posted_at go by id, and undated jobs count as the newest
+     * (PostgreSQL's default null order), as in the listings and the in-memory keyword index.
+     */
+    public enum FullTextOrder {
+        RELEVANCE("rank DESC, posted_at DESC, id DESC"),
+        NEWEST("posted_at DESC, id DESC"),
+        OLDEST("posted_at ASC, id ASC");
+
+        private final String sql;
+
+        FullTextOrder(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * One row per job table: job_type, active count, max(id), max(updated_at).
+     * Any insert, update or (de)activation moves at least one of these.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findCatalogSignatures() {
+        StringBuilder sql = new StringBuilder();
+        for (JobType type : JobType.values()) {
+            if (!sql.isEmpty()) sql.append(" UNION ALL ");
+            sql.append("SELECT '").append(type.name()).append("', ")
+                    .append("COUNT(*) FILTER (WHERE is_active = true), MAX(id), MAX(updated_at) ")
+                    .append("FROM {h-schema}").append(type.getTableName());
+        }
+        return entityManager.createNativeQuery(sql.toString()).getResultList();
+    }
+
+    /**
+     * Active jobs with id greater than {@code afterId}, in id order, for batched full loads.
+     * Rows: id, is_active, updated_at, then {@code columns}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findActiveRows(JobType type, String columns, long afterId, int limit) {
+        return entityManager.createNativeQuery(
+                        "SELECT " + ROW_PREFIX + ", " + columns + " FROM {h-schema}" + type.getTableName()
+                                + " WHERE is_active = true AND id > :afterId ORDER BY id LIMIT :limit")
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    /** Jobs inserted after {@code afterId} or updated after {@code since}, active or not; same row layout. */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findChangedRows(JobType type, String columns, long afterId, LocalDateTime since) {
+        return entityManager.createNativeQuery(
+                        "SELECT " + ROW_PREFIX + ", " + columns + " FROM {h-schema}" + type.getTableName()
+                                + " WHERE id > :afterId OR updated_at > :since")
+                .setParameter("afterId", afterId)
+                .setParameter("since", since)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findRowsByIds(JobType type, String columns, Collection<Long> ids) {
+        return entityManager.createNativeQuery(
+                        "SELECT " + ROW_PREFIX + ", " + columns + " FROM {h-schema}" + type.getTableName()
+                                + " WHERE id IN (:ids)")
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Number> findActiveIds(JobType type) {
+        return entityManager.createNativeQuery(
+                        "SELECT id FROM {h-schema}" + type.getTableName() + " WHERE is_active = true")
+                .getResultList();
+    }
+
+    /**
+     * Deletes the job_skills tags of {@code type} whose job has an id above {@code maxId} or is no longer
+     * active; must be called inside a transaction. Returns the number of tags deleted.
+     */
+    public int deleteStaleSkillTags(JobType type, long maxId) {
+        return entityManager.createNativeQuery(
+                        "DELETE FROM {h-schema}job_skills s WHERE s.job_type = :jobType AND (s.job_id > :maxId"
+                                + " OR NOT EXISTS (SELECT 1 FROM {h-schema}" + type.getTableName()
+                                + " j WHERE j.id = s.job_id AND j.is_active = true))")
+                .setParameter("jobType", type.name())
+                .setParameter("maxId", maxId)
+                .executeUpdate();
+    }
+
+    /**
+     * Distinct non-blank values of {@code column} over the active jobs of all three tables, grouped
+     * case-insensitively. Rows: lower(value), one original spelling, active job count.
+     * {@code column} must be a trusted column name, never user input.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findActiveValueCounts(String column) {
+        StringBuilder union = new StringBuilder();
+        for (JobType type : JobType.values()) {
+            if (!union.isEmpty()) union.append(" UNION ALL ");
+            union.append("SELECT trim(").append(column).append(") AS v FROM {h-schema}").append(type.getTableName())
+                    .append(" WHERE is_active = true");
+        }
+        return entityManager.createNativeQuery(
+                        "SELECT lower(v), min(v), COUNT(*) FROM (" + union + ") t"
+                                + " WHERE v IS NOT NULL AND v <> '' GROUP BY lower(v)")
+                .getResultList();
+    }
+
+    /**
+     * Whether the table of {@code type} has the generated search_vector column that full-text search
+     * reads (see scripts/setup_job_search_fts.js). Call outside any transaction: a failed probe would
+     * abort it.
+     */
+    public boolean hasSearchVector(JobType type) {
+        try {
+            entityManager.createNativeQuery("SELECT 1 FROM {h-schema}" + type.getTableName()
+                            + " WHERE 1 = 0 AND search_vector IS NULL")
+                    .getResultList();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Every active job matching a websearch-syntax query ("backend -php", "\"data engineer\" or ml")
+     * against the search_vector column, served by its GIN index, in no particular order.
+     * Rows: id, ts_rank, posted_at. Only for callers that need the whole match set; pages go
+     * through {@link #findFullTextPage}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findFullTextMatches(JobType type, String websearchQuery) {
+        return entityManager.createNativeQuery(fullTextSql(type, null, null))
+                .setParameter("query", websearchQuery)
+                .getResultList();
+    }
+
+    /**
+     * {@code limit} full-text matches from {@code offset}, in {@code order}; when {@code ids} is non-null,
+     * only among those jobs. Same rows as {@link #findFullTextMatches}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findFullTextPage(JobType type, String websearchQuery, Collection<Long> ids,
+                                           FullTextOrder order, long offset, int limit) {
+        if (ids != null && ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Query query = entityManager.createNativeQuery(fullTextSql(type, ids, null)
+                        + " ORDER BY " + order.sql + " LIMIT :limit OFFSET :offset")
+                .setParameter("query", websearchQuery)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        if (ids != null) query.setParameter("ids", ids);
+        return query.getResultList();
+    }
+
+    /**
+     * Up to {@code limit} full-text matches after the job ({@code postedAt}, {@code id}) in postedAt, id
+     * order, for keyset pagination; from the start when {@code id} is null. Undated jobs count as the
+     * newest, like everywhere else.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findFullTextAfter(JobType type, String websearchQuery, Collection<Long> ids,
+                                            boolean ascending, LocalDateTime postedAt, Long id, int limit) {
+        if (ids != null && ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String seek = null;
+        if (id != null && postedAt == null) {
+            seek = ascending
+                    ? "(posted_at IS NULL AND id > :afterId)"
+                    : "(posted_at IS NOT NULL OR id < :afterId)";
+        } else if (id != null) {
+            seek = ascending
+                    ? "(posted_at > :afterPostedAt OR (posted_at = :afterPostedAt AND id > :afterId) OR posted_at IS NULL)"
+                    : "(posted_at < :afterPostedAt OR (posted_at = :afterPostedAt AND id < :afterId))";
+        }
+        FullTextOrder order = ascending ? FullTextOrder.OLDEST : FullTextOrder.NEWEST;
+        Query query = entityManager.createNativeQuery(fullTextSql(type, ids, seek)
+                        + " ORDER BY " + order.sql + " LIMIT :limit")
+                .setParameter("query", websearchQuery)
+                .setParameter("limit", limit);
+        if (ids != null) query.setParameter("ids", ids);
+        if (id != null) query.setParameter("afterId", id);
+        if (id != null && postedAt != null) query.setParameter("afterPostedAt", postedAt);
+        return query.getResultList();
+    }
+
+    /** Number of full-text matches, only among {@code ids} when non-null. */
+    public long countFullTextMatches(JobType type, String websearchQuery, Collection<Long> ids) {
+        if (ids != null && ids.isEmpty()) {
+            return 0;
+        }
+        Query query = entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM {h-schema}" + type.getTableName()
+                                + ", websearch_to_tsquery('english', :query) q"
+                                + " WHERE is_active = true AND search_vector @@ q"
+                                + (ids != null ? " AND id IN (:ids)" : ""))
+                .setParameter("query", websearchQuery);
+        if (ids != null) query.setParameter("ids", ids);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static String fullTextSql(JobType type, Collection<Long> ids, String seek) {
+        return "SELECT id, ts_rank(search_vector, q) AS rank, posted_at FROM {h-schema}" + type.getTableName()
+                + ", websearch_to_tsquery('english', :query) q"
+                + " WHERE is_active = true AND search_vector @@ q"
+                + (ids != null ? " AND id IN (:ids)" : "")
+                + (seek != null ? " AND " + seek : "");
+    }
+
+    /**
+     * Sets pg_trgm.word_similarity_threshold for the current transaction only; must be called inside one.
+     * Used by fuzzy location matching, whose trigram operator reads the threshold from this setting.
+     */
+    public void setWordSimilarityThreshold(double threshold) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Similarity threshold must be in (0, 1]: " + threshold);
+        }
+        entityManager.createNativeQuery("SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)")
+                .setParameter("threshold", String.valueOf(threshold))
+                .getSingleResult();
+    }
+
+    /** Ids of the entities matching {@code spec}, without loading the rows themselves. */
+    public <T> List<Long> findIds(Class<T> entityClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        query.select(root.get("id")).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /** As {@link #findIds(Class, Specification)}, stopping after {@code limit} ids. */
+    public <T> List<Long> findIds(Class<T> entityClass, Specification<T> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        query.select(root.get("id")).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Summaries of the entities matching {@code spec} in {@code sort} order, {@code limit} rows from
+     * {@code offset}. Only the summary columns are selected, never the description.
+     */
+    public <T> List<JobSummaryDTO> findSummaries(Class<T> entityClass, Specification<T> spec, Sort sort,
+                                                 long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        List<Selection<?>> selections = new ArrayList<>(SUMMARY_ATTRIBUTES.size());
+        for (String attribute : SUMMARY_ATTRIBUTES) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        query.select(cb.tuple(selections.toArray(new Selection<?>[0]))).where(spec.toPredicate(root, query, cb));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())));
+        }
+        query.orderBy(orders);
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+        JobType type = JobType.fromEntityClass(entityClass);
+        List<JobSummaryDTO> summaries = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            summaries.add(toSummary(type, row));
+        }
+        return summaries;
+    }
+
+    /** Page of summaries; the count query is skipped when the page itself reveals the total. */
+    public <T> Page<JobSummaryDTO> findSummaryPage(Class<T> entityClass, Specification<T> spec, Pageable pageable) {
+        List<JobSummaryDTO> content = findSummaries(
+                entityClass, spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityClass, spec));
+    }
+
+    /**
+     * Page of summaries without any count query: one extra row is fetched to tell whether another
+     * page follows.
+     */
+    public <T> Slice<JobSummaryDTO> findSummarySlice(Class<T> entityClass, Specification<T> spec, Pageable pageable) {
+        List<JobSummaryDTO> rows = findSummaries(
+                entityClass, spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /** Summaries of the given ids, in no particular order; ids that do not exist are skipped. */
+    public <T> List<JobSummaryDTO> findSummariesByIds(Class<T> entityClass, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return findSummaries(entityClass, (root, query, cb) -> root.get("id").in(ids), Sort.unsorted(), 0, ids.size());
+    }
+
+    public <T> long count(Class<T> entityClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        query.select(cb.count(root)).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // The three tables have their own enum types with the same constants; summaries use Job's like JobDTO
+    private static JobSummaryDTO toSummary(JobType type, Tuple row) {
+        return JobSummaryDTO.builder()
+                .id(row.get("id", Long.class))
+                .jobType(type)
+                .externalId(row.get("externalId", String.class))
+                .jobCategory(toGeneral(Job.JobCategory.class, row.get("jobCategory")))
+                .source(toGeneral(Job.Source.class, row.get("source")))
+                .company(row.get("company", String.class))
+                .companyLogo(row.get("companyLogo", String.class))
+                .title(row.get("title", String.class))
+                .location(row.get("location", String.class))
+                .department(row.get("department", String.class))
+                .employmentType(toGeneral(Job.EmploymentType.class, row.get("employmentType")))
+                .descriptionSnippet(DescriptionSnippet.normalize(row.get("descriptionSnippet", String.class)))
+                .applyUrl(row.get("applyUrl", String.class))
+                .postedAt(row.get("postedAt", LocalDateTime.class))
+                .isRemote(row.get("isRemote", Boolean.class))
+                .experienceLevel(toGeneral(Job.ExperienceLevel.class, row.get("experienceLevel")))
+                .minSalary(row.get("minSalary", Integer.class))
+                .maxSalary(row.get("maxSalary", Integer.class))
+                .isActive(row.get("isActive", Boolean.class))
+                .createdAt(row.get("createdAt", LocalDateTime.class))
+                .updatedAt(row.get("updatedAt", LocalDateTime.class))
+                .build();
+    }
+
+    private static <E extends Enum<E>> E toGeneral(Class<E> enumClass, Object value) {
+        return value != null ? Enum.valueOf(enumClass, ((Enum<?>) value).name()) : null;
+    }
+}
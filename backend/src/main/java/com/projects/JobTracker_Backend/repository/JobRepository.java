@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,11 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
     Optional<Job> findByExternalId(String externalId);
 
     Optional<Job> findById(Long id);
+
+    // Version of the job behind its detail ETag, read without loading the row; empty when missing or inactive
+    @Query("SELECT j.updatedAt FROM Job j WHERE j.id = :id AND j.isActive = true")
+    Optional<LocalDateTime> findActiveUpdatedAtById(@Param("id") Long id);
+
     // Statistics queries
     @Query("SELECT COUNT(j) FROM Job j WHERE j.isActive = true")
     long countActiveJobs();
@@ -0,0 +1,23 @@
+package com.projects.JobTracker_Backend.repository;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.JobSkill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobSkillRepository extends JpaRepository<JobSkill, JobSkill.Key> {
+
+    // (job_id, skill_id) pairs for a page of jobs of one type
+    @Query("SELECT s.jobId, s.skillId FROM JobSkill s WHERE s.jobType = :jobType AND s.jobId IN :jobIds")
+    List<Object[]> findSkillIds(JobType jobType, Collection<Long> jobIds);
+
+    @Modifying
+    @Query("DELETE FROM JobSkill s WHERE s.jobType = :jobType AND s.jobId IN :jobIds")
+    int deleteByJobIds(JobType jobType, Collection<Long> jobIds);
+}
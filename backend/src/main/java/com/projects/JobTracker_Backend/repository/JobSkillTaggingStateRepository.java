@@ -0,0 +1,10 @@
+package com.projects.JobTracker_Backend.repository;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.JobSkillTaggingState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobSkillTaggingStateRepository extends JpaRepository<JobSkillTaggingState, JobType> {
+}
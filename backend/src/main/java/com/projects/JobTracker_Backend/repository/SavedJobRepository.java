@@ -2,15 +2,21 @@ package com.projects.JobTracker_Backend.repository;
 
 import com.projects.JobTracker_Backend.model.SavedJob;
 import com.projects.JobTracker_Backend.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
@@ -23,6 +29,61 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     @Query("SELECT s FROM SavedJob s WHERE s.user.id = :userId AND s.job.id = :jobId AND TYPE(s.job) = :jobType")
     Optional<SavedJob> findByUserIdAndJobIdAndJobType(Long userId, Long jobId, Class<?> jobType);
 
+    // Batch check: which of the given jobs (all of one type) the user has saved
+    @Query("SELECT s.job.id FROM SavedJob s WHERE s.user.id = :userId AND TYPE(s.job) = :jobType AND s.job.id IN :jobIds")
+    List<Long> findSavedJobIds(Long userId, Class<?> jobType, Collection<Long> jobIds);
+
+    // All (job_type, job_id) pairs saved by a user, used to build the in-memory interaction index
+    @Query(value = "SELECT s.job_type, s.job_id FROM {h-schema}saved_jobs s WHERE s.user_id = :userId", nativeQuery = true)
+    List<Object[]> findAllJobKeysByUserId(Long userId);
+
+    // Page of saved_jobs row ids only; the job columns are fetched by findSavedJobCards
+    @Query(value = "SELECT s.id FROM SavedJob s WHERE s.user.id = :userId",
+           countQuery = "SELECT COUNT(s) FROM SavedJob s WHERE s.user.id = :userId")
+    Page<Long> findIdsByUserId(Long userId, Pageable pageable);
+
+    // One statement for a whole page: a branch per job table, each left-joining applied_jobs.
+    // Columns: saved row id, job_type, JobCardQueries.JOB_COLUMNS, application status, applied_at
+    @Query(value = "SELECT s.id, s.job_type, " + JobCardQueries.JOB_COLUMNS + ", a.status, a.applied_at " +
+            "FROM {h-schema}saved_jobs s JOIN {h-schema}jobs j ON j.id = s.job_id " +
+            "LEFT JOIN {h-schema}applied_jobs a ON a.user_id = s.user_id AND a.job_type = s.job_type AND a.job_id = s.job_id " +
+            "WHERE s.id IN :savedJobIds AND s.job_type = 'GENERAL'" +
+            " UNION ALL " +
+            "SELECT s.id, s.job_type, " + JobCardQueries.JOB_COLUMNS + ", a.status, a.applied_at " +
+            "FROM {h-schema}saved_jobs s JOIN {h-schema}intern_jobs j ON j.id = s.job_id " +
+            "LEFT JOIN {h-schema}applied_jobs a ON a.user_id = s.user_id AND a.job_type = s.job_type AND a.job_id = s.job_id " +
+            "WHERE s.id IN :savedJobIds AND s.job_type = 'INTERN'" +
+            " UNION ALL " +
+            "SELECT s.id, s.job_type, " + JobCardQueries.JOB_COLUMNS + ", a.status, a.applied_at " +
+            "FROM {h-schema}saved_jobs s JOIN {h-schema}fulltime_jobs j ON j.id = s.job_id " +
+            "LEFT JOIN {h-schema}applied_jobs a ON a.user_id = s.user_id AND a.job_type = s.job_type AND a.job_id = s.job_id " +
+            "WHERE s.id IN :savedJobIds AND s.job_type = 'FULLTIME'", nativeQuery = true)
+    List<Object[]> findSavedJobCards(Collection<Long> savedJobIds);
+
+    // The user's whole pipeline for export: every job saved or applied to, once, with both states,
+    // latest activity first. A branch per job table over the full join of the two interaction tables.
+    // Columns: last activity, job_type, JobCardQueries.JOB_COLUMNS, saved_at, application status, applied_at
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JobCardQueries.EXPORT_FETCH_SIZE))
+    @Query(value = "WITH p AS (" +
+            "SELECT coalesce(s.job_type, a.job_type) AS job_type, coalesce(s.job_id, a.job_id) AS job_id, " +
+            "s.saved_at, a.status, a.applied_at " +
+            "FROM (SELECT job_type, job_id, saved_at FROM {h-schema}saved_jobs WHERE user_id = :userId) s " +
+            "FULL JOIN (SELECT job_type, job_id, status, applied_at FROM {h-schema}applied_jobs WHERE user_id = :userId) a " +
+            "ON a.job_type = s.job_type AND a.job_id = s.job_id) " +
+            "SELECT greatest(p.saved_at, p.applied_at) AS last_activity_at, p.job_type, " + JobCardQueries.JOB_COLUMNS +
+            ", p.saved_at, p.status, p.applied_at " +
+            "FROM p JOIN {h-schema}jobs j ON j.id = p.job_id WHERE p.job_type = 'GENERAL'" +
+            " UNION ALL " +
+            "SELECT greatest(p.saved_at, p.applied_at) AS last_activity_at, p.job_type, " + JobCardQueries.JOB_COLUMNS +
+            ", p.saved_at, p.status, p.applied_at " +
+            "FROM p JOIN {h-schema}intern_jobs j ON j.id = p.job_id WHERE p.job_type = 'INTERN'" +
+            " UNION ALL " +
+            "SELECT greatest(p.saved_at, p.applied_at) AS last_activity_at, p.job_type, " + JobCardQueries.JOB_COLUMNS +
+            ", p.saved_at, p.status, p.applied_at " +
+            "FROM p JOIN {h-schema}fulltime_jobs j ON j.id = p.job_id WHERE p.job_type = 'FULLTIME'" +
+            " ORDER BY last_activity_at DESC", nativeQuery = true)
+    Stream<Object[]> streamPipelineCards(Long userId);
+
     // Get all saved jobs for a user
     Page<SavedJob> findByUserId(Long userId, Pageable pageable);
 
@@ -36,10 +97,17 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     @Query("SELECT COUNT(s) FROM SavedJob s WHERE s.user.id = :userId AND s.savedAt >= :weekAgo")
     long countByUserIdAndSavedAtAfter(Long userId, LocalDateTime weekAgo);
 
-    // Delete saved job by type
+    // Insert-if-absent on uk_saved_jobs_user_job; returns 0 when the job was already saved
     @Modifying
-    @Query("DELETE FROM SavedJob s WHERE s.user.id = :userId AND s.job.id = :jobId AND TYPE(s.job) = :jobType")
-    void deleteByUserIdAndJobIdAndJobType(Long userId, Long jobId, Class<?> jobType);
+    @Query(value = "INSERT INTO {h-schema}saved_jobs (user_id, job_type, job_id, saved_at) " +
+            "VALUES (:userId, :jobType, :jobId, :savedAt) " +
+            "ON CONFLICT (user_id, job_type, job_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(Long userId, String jobType, Long jobId, LocalDateTime savedAt);
+
+    // Delete saved job by type; returns the removed row's saved_at, empty when the job was not saved
+    @Query(value = "DELETE FROM {h-schema}saved_jobs WHERE user_id = :userId AND job_type = :jobType AND job_id = :jobId " +
+            "RETURNING saved_at", nativeQuery = true)
+    List<Object> deleteReturningSavedAt(Long userId, String jobType, Long jobId);
 
     // Generic check for existence
     boolean existsByUserIdAndJobId(Long userId, Long jobId);
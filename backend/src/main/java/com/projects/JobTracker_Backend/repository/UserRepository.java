@@ -1,6 +1,7 @@
 package com.projects.JobTracker_Backend.repository;
 
 import com.projects.JobTracker_Backend.model.User;
+import com.projects.JobTracker_Backend.security.UserAccountStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -23,6 +24,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByPhoneNumber(String phoneNumber);
 
+    @Query("SELECT new com.projects.JobTracker_Backend.security.UserAccountStatus(u.accountEnabled, u.accountLocked) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserAccountStatus> findAccountStatusById(Long id);
+
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.profile WHERE u.id = :id")
     Optional<User> findByIdWithProfile(Long id);
 
@@ -0,0 +1,263 @@
+package com.projects.JobTracker_Backend.search;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.service.CatalogChangedEvent;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Base for in-memory structures that mirror the active jobs of all three job tables.
+ *
+ * Each table is loaded in id-ordered batches once the application is ready and then kept current
+ * from {@link CatalogChangedEvent}s: rows inserted or updated since the last refresh are re-applied,
+ * and the active id set is reconciled so deactivations are picked up even when they do not touch
+ * updated_at. All loading runs on one background thread per mirror; until a table is loaded,
+ * {@link #read} reports it as unavailable and callers fall back to the database.
+ *
+ * Rows handed to {@link #put} are laid out as id, is_active, updated_at followed by {@link #columns()}.
+ *
+ * @param <S> the per-table structure; mutated only on the loader thread, under the table's write lock
+ */
+@Slf4j
+public abstract class CatalogMirror<S> {
+
+    // Lower bound for the first "updated since" query of a table whose rows have no updated_at yet
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int ID_BATCH_SIZE = 1000;
+
+    /** Index of the first requested column in a row. */
+    protected static final int FIRST_COLUMN = 3;
+
+    @Autowired
+    private JobCatalogRepository jobCatalogRepository;
+
+    private final Map<JobType, Table<S>> tables = new EnumMap<>(JobType.class);
+    private ExecutorService loader;
+
+    /** Short name used for the loader thread and in logs, e.g. "keyword index". */
+    protected abstract String name();
+
+    /** Columns to load after id, is_active, updated_at. */
+    protected abstract String columns();
+
+    protected abstract boolean isEnabled();
+
+    protected abstract int loadBatchSize();
+
+    protected abstract S newStructure();
+
+    /** Adds or replaces job {@code id}. */
+    protected abstract void put(S structure, long id, Object[] row);
+
+    protected abstract void remove(S structure, long id);
+
+    protected abstract boolean contains(S structure, long id);
+
+    protected abstract long[] liveIds(S structure);
+
+    /**
+     * Called under the write lock after a full build ({@code rebuilt}) or a refresh,
+     * e.g. to compact or update metrics.
+     */
+    protected void afterLoad(JobType type, S structure, boolean rebuilt) {
+    }
+
+    @PostConstruct
+    public void startLoader() {
+        for (JobType type : JobType.values()) {
+            tables.put(type, new Table<>());
+        }
+        String threadName = "catalog-" + name().replace(' ', '-');
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopLoader() {
+        loader.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isEnabled()) return;
+        for (JobType type : JobType.values()) {
+            loader.submit(() -> build(type));
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!isEnabled()) return;
+        for (JobType type : event.changedTypes()) {
+            loader.submit(() -> refresh(type));
+        }
+    }
+
+    /** Applies {@code reader} under the table's read lock; empty while the table is not loaded. */
+    protected <R> Optional<R> read(JobType type, Function<S, R> reader) {
+        Table<S> table = tables.get(type);
+        if (!isEnabled() || table.structure == null) {
+            return Optional.empty();
+        }
+        table.lock.readLock().lock();
+        try {
+            return Optional.ofNullable(reader.apply(table.structure));
+        } finally {
+            table.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of builds and refreshes applied to the table so far; changes whenever results read
+     * from it may have changed, so it can be part of a cache key.
+     */
+    public long getGeneration(JobType type) {
+        return tables.get(type).generation;
+    }
+
+    // ================== LOADING ==================
+
+    private void build(JobType type) {
+        Table<S> table = tables.get(type);
+        try {
+            long startedAt = System.currentTimeMillis();
+            S structure = newStructure();
+            int batchSize = loadBatchSize();
+            long afterId = 0;
+            LocalDateTime maxUpdatedAt = null;
+            int loaded = 0;
+
+            List<Object[]> batch;
+            do {
+                batch = jobCatalogRepository.findActiveRows(type, columns(), afterId, batchSize);
+                for (Object[] row : batch) {
+                    long id = NativeResults.toLong(row[0]);
+                    put(structure, id, row);
+                    afterId = Math.max(afterId, id);
+                    maxUpdatedAt = later(maxUpdatedAt, row[2]);
+                }
+                loaded += batch.size();
+            } while (batch.size() == batchSize);
+
+            table.lock.writeLock().lock();
+            try {
+                table.structure = structure;
+                table.maxId = afterId;
+                table.maxUpdatedAt = maxUpdatedAt;
+                afterLoad(type, structure, true);
+                table.generation++;
+            } finally {
+                table.lock.writeLock().unlock();
+            }
+            log.info("Loaded {} active {} jobs into the {} in {} ms", loaded, type, name(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Failed to build the {} for {} jobs", name(), type, e);
+        }
+    }
+
+    private void refresh(JobType type) {
+        Table<S> table = tables.get(type);
+        if (table.structure == null) {
+            build(type);
+            return;
+        }
+
+        try {
+            List<Object[]> changed = jobCatalogRepository.findChangedRows(
+                    type, columns(), table.maxId, table.maxUpdatedAt != null ? table.maxUpdatedAt : EPOCH);
+            Set<Long> activeIds = new HashSet<>();
+            for (Number id : jobCatalogRepository.findActiveIds(type)) {
+                activeIds.add(id.longValue());
+            }
+
+            List<Long> missing = new ArrayList<>();
+            table.lock.writeLock().lock();
+            try {
+                S structure = table.structure;
+                for (Object[] row : changed) {
+                    long id = NativeResults.toLong(row[0]);
+                    if (Boolean.TRUE.equals(row[1]) && activeIds.contains(id)) {
+                        put(structure, id, row);
+                    } else {
+                        remove(structure, id);
+                    }
+                    table.maxId = Math.max(table.maxId, id);
+                    table.maxUpdatedAt = later(table.maxUpdatedAt, row[2]);
+                }
+
+                // Deactivated or deleted without an updated_at bump
+                for (long id : liveIds(structure)) {
+                    if (!activeIds.contains(id)) remove(structure, id);
+                }
+                // Reactivated without an updated_at bump
+                for (Long id : activeIds) {
+                    if (!contains(structure, id)) missing.add(id);
+                }
+            } finally {
+                table.lock.writeLock().unlock();
+            }
+
+            for (int from = 0; from < missing.size(); from += ID_BATCH_SIZE) {
+                List<Object[]> rows = jobCatalogRepository.findRowsByIds(
+                        type, columns(), missing.subList(from, Math.min(from + ID_BATCH_SIZE, missing.size())));
+                table.lock.writeLock().lock();
+                try {
+                    for (Object[] row : rows) {
+                        if (Boolean.TRUE.equals(row[1])) put(table.structure, NativeResults.toLong(row[0]), row);
+                    }
+                } finally {
+                    table.lock.writeLock().unlock();
+                }
+            }
+
+            table.lock.writeLock().lock();
+            try {
+                afterLoad(type, table.structure, false);
+                table.generation++;
+            } finally {
+                table.lock.writeLock().unlock();
+            }
+            log.debug("Refreshed {} {}: {} changed, {} reloaded", type, name(), changed.size(), missing.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh the {} for {} jobs", name(), type, e);
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime current, Object value) {
+        if (value == null) return current;
+        LocalDateTime candidate = NativeResults.toLocalDateTime(value);
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+
+    private static final class Table<S> {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        volatile S structure;
+        long maxId;
+        LocalDateTime maxUpdatedAt;
+        // Written on the loader thread only
+        volatile long generation;
+    }
+}
@@ -0,0 +1,45 @@
+package com.projects.JobTracker_Backend.search;
+
+/**
+ * Job attributes the facet counts are grouped by. Enum-backed facets match filter values exactly;
+ * company and location match case-insensitive substrings, like the filter endpoints do.
+ */
+public enum Facet {
+    JOB_CATEGORY("job_category", false),
+    EMPLOYMENT_TYPE("employment_type", false),
+    EXPERIENCE_LEVEL("experience_level", false),
+    SOURCE("source", false),
+    IS_REMOTE("is_remote", false),
+    COMPANY("company", true),
+    LOCATION("location", true);
+
+    private final String column;
+    private final boolean partialMatch;
+
+    Facet(String column, boolean partialMatch) {
+        this.column = column;
+        this.partialMatch = partialMatch;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isPartialMatch() {
+        return partialMatch;
+    }
+
+    /** Bucket key of a raw column value; null when the job has no value for this facet. */
+    String keyOf(Object value) {
+        if (value == null) return null;
+        String text = value.toString().trim();
+        if (text.isEmpty()) return null;
+        return partialMatch ? text.toLowerCase() : text.toUpperCase();
+    }
+
+    /** Bucket key of a filter value, in the same normalization as {@link #keyOf}. */
+    String termOf(String filterValue) {
+        String text = filterValue.trim();
+        return partialMatch ? text.toLowerCase() : text.toUpperCase();
+    }
+}
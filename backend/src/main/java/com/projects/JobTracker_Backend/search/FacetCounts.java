@@ -0,0 +1,10 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.Map;
+
+/**
+ * Result of a facet count: the number of jobs matching the whole filter, and per facet
+ * the job count of each value (display spelling), largest first.
+ */
+public record FacetCounts(long total, Map<Facet, Map<String, Long>> counts) {
+}
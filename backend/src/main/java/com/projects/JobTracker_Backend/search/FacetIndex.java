@@ -0,0 +1,126 @@
+package com.projects.JobTracker_Backend.search;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory facet bitmaps over the active jobs of all three job tables, kept current by
+ * {@link CatalogMirror}. Until a table is loaded, counts against it are unavailable.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacetIndex extends CatalogMirror<FacetTable> {
+
+    private static final String COLUMNS = Arrays.stream(Facet.values())
+            .map(Facet::getColumn)
+            .collect(Collectors.joining(", "));
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.facets.enabled:true}")
+    private boolean enabled;
+    @Value("${search.index.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    private final Map<JobType, TableMetrics> metrics = new EnumMap<>(JobType.class);
+
+    @PostConstruct
+    public void init() {
+        for (JobType type : JobType.values()) {
+            TableMetrics table = new TableMetrics();
+            metrics.put(type, table);
+            Gauge.builder("search.facets.heap.bytes", table, t -> t.heapBytes)
+                    .description("Estimated heap held by the facet bitmaps")
+                    .tag("type", type.name())
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Facet counts for the jobs of {@code type} matching {@code selection}, further restricted to
+     * {@code restriction} when non-null (filters the bitmaps cannot answer, resolved to ids elsewhere).
+     * Empty when the table is not loaded yet.
+     */
+    public Optional<FacetCounts> count(JobType type, Map<Facet, List<String>> selection,
+                                       RoaringBitmap restriction, int topN) {
+        return read(type, table -> table.count(selection, restriction, topN));
+    }
+
+    /** Ids of the jobs of {@code type} matching {@code selection} and {@code restriction}; empty while loading. */
+    public Optional<RoaringBitmap> match(JobType type, Map<Facet, List<String>> selection, RoaringBitmap restriction) {
+        return read(type, table -> table.match(selection, restriction));
+    }
+
+    // ================== MIRROR ==================
+
+    @Override
+    protected String name() {
+        return "facet index";
+    }
+
+    @Override
+    protected String columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected int loadBatchSize() {
+        return loadBatchSize;
+    }
+
+    @Override
+    protected FacetTable newStructure() {
+        return new FacetTable();
+    }
+
+    @Override
+    protected void put(FacetTable table, long id, Object[] row) {
+        table.add(id, Arrays.copyOfRange(row, FIRST_COLUMN, FIRST_COLUMN + Facet.values().length));
+    }
+
+    @Override
+    protected void remove(FacetTable table, long id) {
+        table.delete(id);
+    }
+
+    @Override
+    protected boolean contains(FacetTable table, long id) {
+        return table.contains(id);
+    }
+
+    @Override
+    protected long[] liveIds(FacetTable table) {
+        return table.liveJobIds();
+    }
+
+    @Override
+    protected void afterLoad(JobType type, FacetTable table, boolean rebuilt) {
+        if (rebuilt) {
+            table.optimize();
+        }
+        metrics.get(type).heapBytes = table.estimatedHeapBytes();
+    }
+
+    private static final class TableMetrics {
+        volatile double heapBytes;
+    }
+}
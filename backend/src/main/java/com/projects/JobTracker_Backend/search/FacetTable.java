@@ -0,0 +1,208 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet bitmaps of one job table: for every facet value, a compressed bitmap of the active job ids
+ * having it. A filter becomes the intersection of the per-facet unions of its selected values, and a
+ * count is the cardinality of that intersection with a value's bitmap, without touching the jobs.
+ *
+ * Job ids must fit in an int. Not thread-safe; {@link FacetIndex} guards it with a read-write lock.
+ */
+final class FacetTable {
+
+    private static final Facet[] FACETS = Facet.values();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Facet, Map<String, Bucket>> buckets = new EnumMap<>(Facet.class);
+    // Bucket keys per job, in Facet order, so a job can be removed without its old row
+    private final Map<Integer, String[]> keysByJob = new HashMap<>();
+
+    FacetTable() {
+        for (Facet facet : FACETS) {
+            buckets.put(facet, new HashMap<>());
+        }
+    }
+
+    /** Adds or replaces a job; {@code values} holds the raw column values in {@link Facet} order. */
+    void add(long jobId, Object[] values) {
+        int id = Math.toIntExact(jobId);
+        remove(id);
+
+        String[] keys = new String[FACETS.length];
+        for (Facet facet : FACETS) {
+            Object value = values[facet.ordinal()];
+            String key = facet.keyOf(value);
+            if (key == null) continue;
+            Bucket bucket = buckets.get(facet).computeIfAbsent(key, k -> new Bucket(value.toString().trim()));
+            bucket.ids.add(id);
+            keys[facet.ordinal()] = bucket.key(key);
+        }
+        keysByJob.put(id, keys);
+        all.add(id);
+    }
+
+    void delete(long jobId) {
+        remove(Math.toIntExact(jobId));
+    }
+
+    boolean contains(long jobId) {
+        return jobId <= Integer.MAX_VALUE && all.contains((int) jobId);
+    }
+
+    long[] liveJobIds() {
+        long[] ids = new long[all.getCardinality()];
+        int i = 0;
+        for (int id : all) {
+            ids[i++] = id;
+        }
+        return ids;
+    }
+
+    int liveCount() {
+        return all.getCardinality();
+    }
+
+    void optimize() {
+        all.runOptimize();
+        for (Map<String, Bucket> facetBuckets : buckets.values()) {
+            for (Bucket bucket : facetBuckets.values()) {
+                bucket.ids.runOptimize();
+            }
+        }
+    }
+
+    long estimatedHeapBytes() {
+        long bytes = all.getLongSizeInBytes() + keysByJob.size() * 64L;
+        for (Map<String, Bucket> facetBuckets : buckets.values()) {
+            for (Bucket bucket : facetBuckets.values()) {
+                bytes += bucket.ids.getLongSizeInBytes() + 64;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Counts per facet value for the jobs matching {@code selection} within {@code restriction}
+     * (null for no restriction). Each facet is counted against the other facets' selections only,
+     * so selecting a value does not hide its siblings. Partial-match facets keep their {@code topN}
+     * largest values; the others keep every value with a non-zero count.
+     */
+    FacetCounts count(Map<Facet, List<String>> selection, RoaringBitmap restriction, int topN) {
+        RoaringBitmap base = restriction != null ? RoaringBitmap.and(all, restriction) : all;
+
+        Map<Facet, RoaringBitmap> selected = new EnumMap<>(Facet.class);
+        for (Map.Entry<Facet, List<String>> entry : selection.entrySet()) {
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                selected.put(entry.getKey(), union(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        Map<Facet, Map<String, Long>> counts = new EnumMap<>(Facet.class);
+        for (Facet facet : FACETS) {
+            RoaringBitmap others = base;
+            for (Map.Entry<Facet, RoaringBitmap> entry : selected.entrySet()) {
+                if (entry.getKey() != facet) others = RoaringBitmap.and(others, entry.getValue());
+            }
+            counts.put(facet, countValues(facet, others, facet.isPartialMatch() ? topN : Integer.MAX_VALUE));
+        }
+
+        RoaringBitmap matching = base;
+        for (RoaringBitmap bitmap : selected.values()) {
+            matching = RoaringBitmap.and(matching, bitmap);
+        }
+        return new FacetCounts(matching.getLongCardinality(), counts);
+    }
+
+    /** The jobs matching {@code selection} within {@code restriction} (null for no restriction), as a new bitmap. */
+    RoaringBitmap match(Map<Facet, List<String>> selection, RoaringBitmap restriction) {
+        RoaringBitmap matching = restriction != null ? RoaringBitmap.and(all, restriction) : all.clone();
+        for (Map.Entry<Facet, List<String>> entry : selection.entrySet()) {
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                matching.and(union(entry.getKey(), entry.getValue()));
+            }
+        }
+        return matching;
+    }
+
+    // Jobs having any of the selected values of one facet
+    private RoaringBitmap union(Facet facet, List<String> values) {
+        List<RoaringBitmap> matches = new ArrayList<>();
+        Map<String, Bucket> facetBuckets = buckets.get(facet);
+        for (String value : values) {
+            String term = facet.termOf(value);
+            if (facet.isPartialMatch()) {
+                for (Map.Entry<String, Bucket> entry : facetBuckets.entrySet()) {
+                    if (entry.getKey().contains(term)) matches.add(entry.getValue().ids);
+                }
+            } else {
+                Bucket bucket = facetBuckets.get(term);
+                if (bucket != null) matches.add(bucket.ids);
+            }
+        }
+        return RoaringBitmap.or(matches.iterator());
+    }
+
+    private Map<String, Long> countValues(Facet facet, RoaringBitmap jobs, int limit) {
+        Map<String, Bucket> facetBuckets = buckets.get(facet);
+        Map<String, Long> byKey = new HashMap<>();
+        if (jobs.getCardinality() < facetBuckets.size()) {
+            // Fewer matching jobs than values (e.g. companies under a narrow filter): walk the jobs
+            for (int id : jobs) {
+                String key = keysByJob.get(id)[facet.ordinal()];
+                if (key != null) byKey.merge(key, 1L, Long::sum);
+            }
+        } else {
+            for (Map.Entry<String, Bucket> entry : facetBuckets.entrySet()) {
+                long count = RoaringBitmap.andCardinality(jobs, entry.getValue().ids);
+                if (count > 0) byKey.put(entry.getKey(), count);
+            }
+        }
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(byKey.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            result.put(facetBuckets.get(entry.getKey()).label, entry.getValue());
+        }
+        return result;
+    }
+
+    private void remove(int id) {
+        String[] keys = keysByJob.remove(id);
+        if (keys == null) return;
+        for (Facet facet : FACETS) {
+            String key = keys[facet.ordinal()];
+            if (key == null) continue;
+            Map<String, Bucket> facetBuckets = buckets.get(facet);
+            Bucket bucket = facetBuckets.get(key);
+            bucket.ids.remove(id);
+            if (bucket.ids.isEmpty()) facetBuckets.remove(key);
+        }
+        all.remove(id);
+    }
+
+    private static final class Bucket {
+        // Spelling of the first job seen with this value, e.g. "Bangalore" for "bangalore"
+        final String label;
+        final RoaringBitmap ids = new RoaringBitmap();
+        private String key;
+
+        Bucket(String label) {
+            this.label = label;
+        }
+
+        // Shares one key string between the bucket and every job in it
+        String key(String candidate) {
+            if (key == null) key = candidate;
+            return key;
+        }
+    }
+}
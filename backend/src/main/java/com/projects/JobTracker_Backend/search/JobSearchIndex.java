@@ -0,0 +1,151 @@
+package com.projects.JobTracker_Backend.search;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory keyword index over the active jobs of all three job tables, kept current by
+ * {@link CatalogMirror}. Until a table is loaded, searches against it report the index as
+ * unavailable and callers fall back to the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex extends CatalogMirror<TextIndexSegment> {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.keyword-mode:index}")
+    private String keywordMode;
+    @Value("${search.index.load-batch-size:1000}")
+    private int loadBatchSize;
+    @Value("${search.index.compact-deleted-ratio:0.2}")
+    private double compactDeletedRatio;
+
+    private final Map<JobType, TableMetrics> metrics = new EnumMap<>(JobType.class);
+
+    @PostConstruct
+    public void init() {
+        for (JobType type : JobType.values()) {
+            TableMetrics table = new TableMetrics();
+            metrics.put(type, table);
+            Gauge.builder("search.index.documents", table, t -> t.documents)
+                    .description("Active jobs in the in-memory keyword index")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            Gauge.builder("search.index.heap.bytes", table, t -> t.heapBytes)
+                    .description("Estimated heap held by the in-memory keyword index")
+                    .tag("type", type.name())
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Resolves comma-separated search keywords against one table. Each keyword matches jobs containing
+     * all of its words in the title, company or description; the result holds every matching active
+     * job, unordered, with its BM25 score. Empty when the table is not indexed (yet) or the keywords
+     * contain no indexable words, in which case the caller should query the database instead.
+     */
+    public Optional<List<SearchHit>> search(JobType type, List<String> keywords) {
+        List<List<String>> analyzed = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            List<String> terms = TextAnalyzer.tokenize(keyword);
+            if (!terms.isEmpty()) analyzed.add(terms);
+        }
+        if (analyzed.isEmpty()) {
+            return Optional.empty();
+        }
+        return read(type, segment -> segment.search(analyzed));
+    }
+
+    /**
+     * Whether a keyword search for {@code term} can match anything in the table; empty when the index
+     * cannot tell (not loaded yet, or keyword search is not served from memory).
+     */
+    public Optional<Boolean> hasTerm(JobType type, String term) {
+        return read(type, segment -> segment.hasTerm(term));
+    }
+
+    // ================== MIRROR ==================
+
+    @Override
+    protected String name() {
+        return "keyword index";
+    }
+
+    @Override
+    protected String columns() {
+        return "title, company, description, posted_at";
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        // Only built when keyword search is served from memory
+        return "index".equalsIgnoreCase(keywordMode);
+    }
+
+    @Override
+    protected int loadBatchSize() {
+        return loadBatchSize;
+    }
+
+    @Override
+    protected TextIndexSegment newStructure() {
+        return new TextIndexSegment();
+    }
+
+    @Override
+    protected void put(TextIndexSegment segment, long id, Object[] row) {
+        segment.add(
+                id,
+                (String) row[FIRST_COLUMN],
+                (String) row[FIRST_COLUMN + 1],
+                NativeResults.toText(row[FIRST_COLUMN + 2]),
+                SearchHit.toMillis(row[FIRST_COLUMN + 3] != null
+                        ? NativeResults.toLocalDateTime(row[FIRST_COLUMN + 3]) : null));
+    }
+
+    @Override
+    protected void remove(TextIndexSegment segment, long id) {
+        segment.delete(id);
+    }
+
+    @Override
+    protected boolean contains(TextIndexSegment segment, long id) {
+        return segment.contains(id);
+    }
+
+    @Override
+    protected long[] liveIds(TextIndexSegment segment) {
+        return segment.liveJobIds();
+    }
+
+    @Override
+    protected void afterLoad(JobType type, TextIndexSegment segment, boolean rebuilt) {
+        if (rebuilt) {
+            segment.trim();
+        } else if (segment.deletedRatio() > compactDeletedRatio) {
+            segment.compact();
+        }
+        TableMetrics table = metrics.get(type);
+        table.documents = segment.liveCount();
+        table.heapBytes = segment.estimatedHeapBytes();
+    }
+
+    private static final class TableMetrics {
+        volatile double documents;
+        volatile double heapBytes;
+    }
+}
@@ -0,0 +1,121 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.Arrays;
+
+/**
+ * Append-only postings for one term: (document, term frequency) pairs in increasing document
+ * order, stored as variable-length delta-encoded ints. Most gaps and frequencies fit in one
+ * byte, so a posting costs about two bytes instead of the eight of an int pair.
+ *
+ * Not thread-safe; {@link TextIndexSegment} serializes writers against readers.
+ */
+final class PostingsList {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private byte[] bytes = EMPTY;
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+
+    /** Appends a posting; {@code doc} must be greater than every document already in the list. */
+    void add(int doc, int frequency) {
+        ensureCapacity(10);
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        size++;
+    }
+
+    /** Number of postings, including those of documents deleted since the last compaction. */
+    int size() {
+        return size;
+    }
+
+    int lastDoc() {
+        return lastDoc;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Copy without postings of removed documents, renumbered through {@code docMap}
+     * (old document to new, or -1 when removed). Returns null when nothing is left.
+     */
+    PostingsList remap(int[] docMap) {
+        PostingsList remapped = new PostingsList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            int doc = docMap[cursor.doc()];
+            if (doc >= 0) {
+                remapped.add(doc, cursor.frequency());
+            }
+        }
+        if (remapped.size == 0) {
+            return null;
+        }
+        remapped.trim();
+        return remapped;
+    }
+
+    void trim() {
+        if (bytes.length != length) {
+            bytes = Arrays.copyOf(bytes, length);
+        }
+    }
+
+    long estimatedHeapBytes() {
+        return 16L + 32 + bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(16, Math.max(length + extra, bytes.length + (bytes.length >> 1))));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    final class Cursor {
+        private int position;
+        private int doc = -1;
+        private int frequency;
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            doc += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.List;
+
+/**
+ * Salary distribution of the jobs matching a filter: {@code total} matching jobs, of which
+ * {@code unknown} have no salary, and equal-width buckets over the others, keyed by the midpoint of
+ * each job's salary range. The last bucket is open-ended ({@code to} is null).
+ */
+public record SalaryHistogram(long total, long unknown, long bucketSize, List<Bucket> buckets) {
+
+    /** Jobs whose salary midpoint is in [from, to). */
+    public record Bucket(long from, Long to, long count) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.projects.JobTracker_Backend.search;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory salaries of the active jobs of all three job tables, kept current by {@link CatalogMirror},
+ * for the salary histogram. Until a table is loaded, histograms of it are unavailable.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalaryIndex extends CatalogMirror<SalaryTable> {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.facets.enabled:true}")
+    private boolean enabled;
+    @Value("${search.index.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    private final Map<JobType, TableMetrics> metrics = new EnumMap<>(JobType.class);
+
+    @PostConstruct
+    public void init() {
+        for (JobType type : JobType.values()) {
+            TableMetrics table = new TableMetrics();
+            metrics.put(type, table);
+            Gauge.builder("search.salaries.heap.bytes", table, t -> t.heapBytes)
+                    .description("Estimated heap held by the in-memory salaries")
+                    .tag("type", type.name())
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Salary histogram of the jobs of {@code type} in {@code matching} (null for all of them).
+     * Empty when the table is not loaded yet.
+     */
+    public Optional<SalaryHistogram> histogram(JobType type, RoaringBitmap matching, int bucketCount) {
+        return read(type, table -> table.histogram(matching, bucketCount));
+    }
+
+    // ================== MIRROR ==================
+
+    @Override
+    protected String name() {
+        return "salary index";
+    }
+
+    @Override
+    protected String columns() {
+        return "salary_floor, salary_ceiling";
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected int loadBatchSize() {
+        return loadBatchSize;
+    }
+
+    @Override
+    protected SalaryTable newStructure() {
+        return new SalaryTable();
+    }
+
+    @Override
+    protected void put(SalaryTable table, long id, Object[] row) {
+        table.add(id, toInteger(row[FIRST_COLUMN]), toInteger(row[FIRST_COLUMN + 1]));
+    }
+
+    @Override
+    protected void remove(SalaryTable table, long id) {
+        table.delete(id);
+    }
+
+    @Override
+    protected boolean contains(SalaryTable table, long id) {
+        return table.contains(id);
+    }
+
+    @Override
+    protected long[] liveIds(SalaryTable table) {
+        return table.liveJobIds();
+    }
+
+    @Override
+    protected void afterLoad(JobType type, SalaryTable table, boolean rebuilt) {
+        table.sort();
+        metrics.get(type).heapBytes = table.estimatedHeapBytes();
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private static final class TableMetrics {
+        volatile double heapBytes;
+    }
+}
@@ -0,0 +1,146 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Salaries of the active jobs of one table, for histograms.
+ *
+ * Jobs are added and removed through a map; {@link #sort()} (run after each load) turns it into
+ * parallel arrays ordered by salary, so a histogram of the whole table is a few binary searches and a
+ * filtered one a single ordered pass. Each job counts at the midpoint of its normalized salary range.
+ *
+ * Job ids must fit in an int. Not thread-safe; {@link SalaryIndex} guards it with a read-write lock.
+ */
+final class SalaryTable {
+
+    // The top 1% would stretch the buckets over a few outliers; they go into the last, open-ended bucket
+    private static final double TOP_PERCENTILE = 0.99;
+
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Integer, Integer> salaryByJob = new HashMap<>();
+
+    private int[] sortedSalaries = new int[0];
+    private int[] sortedJobs = new int[0];
+
+    /** Adds or replaces a job; both bounds are null when its salary is unknown. */
+    void add(long jobId, Integer floor, Integer ceiling) {
+        int id = Math.toIntExact(jobId);
+        live.add(id);
+        if (floor != null && ceiling != null) {
+            salaryByJob.put(id, (int) (((long) floor + ceiling) / 2));
+        } else {
+            salaryByJob.remove(id);
+        }
+    }
+
+    void delete(long jobId) {
+        int id = Math.toIntExact(jobId);
+        live.remove(id);
+        salaryByJob.remove(id);
+    }
+
+    boolean contains(long jobId) {
+        return jobId <= Integer.MAX_VALUE && live.contains((int) jobId);
+    }
+
+    long[] liveJobIds() {
+        long[] ids = new long[live.getCardinality()];
+        int i = 0;
+        for (int id : live) {
+            ids[i++] = id;
+        }
+        return ids;
+    }
+
+    void sort() {
+        long[] pairs = new long[salaryByJob.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : salaryByJob.entrySet()) {
+            pairs[i++] = ((long) entry.getValue() << 32) | (entry.getKey() & 0xFFFFFFFFL);
+        }
+        Arrays.sort(pairs);
+        sortedSalaries = new int[pairs.length];
+        sortedJobs = new int[pairs.length];
+        for (i = 0; i < pairs.length; i++) {
+            sortedSalaries[i] = (int) (pairs[i] >> 32);
+            sortedJobs[i] = (int) pairs[i];
+        }
+    }
+
+    long estimatedHeapBytes() {
+        return live.getLongSizeInBytes() + salaryByJob.size() * 56L + sortedSalaries.length * 8L;
+    }
+
+    /**
+     * Histogram of the jobs in {@code matching} (null for every job) in about {@code bucketCount}
+     * buckets of a round width (1, 2 or 5 times a power of ten).
+     */
+    SalaryHistogram histogram(RoaringBitmap matching, int bucketCount) {
+        int[] salaries;
+        long total;
+        if (matching == null) {
+            salaries = sortedSalaries;
+            total = live.getLongCardinality();
+        } else {
+            salaries = new int[Math.min(sortedSalaries.length, matching.getCardinality())];
+            int size = 0;
+            for (int i = 0; i < sortedJobs.length; i++) {
+                if (matching.contains(sortedJobs[i])) salaries[size++] = sortedSalaries[i];
+            }
+            salaries = Arrays.copyOf(salaries, size);
+            total = RoaringBitmap.andCardinality(live, matching);
+        }
+        long unknown = Math.max(0, total - salaries.length);
+        if (salaries.length == 0) {
+            return new SalaryHistogram(total, unknown, 0, List.of());
+        }
+
+        long low = salaries[0];
+        long high = salaries[(int) ((salaries.length - 1) * TOP_PERCENTILE)];
+        long width = roundWidth((high - low + bucketCount) / bucketCount);
+        long start = Math.floorDiv(low, width) * width;
+        int count = (int) ((high - start) / width) + 1;
+
+        List<SalaryHistogram.Bucket> buckets = new ArrayList<>(count);
+        int from = 0;
+        for (int b = 0; b < count; b++) {
+            long bucketStart = start + b * width;
+            boolean last = b == count - 1;
+            int to = last ? salaries.length : lowerBound(salaries, bucketStart + width);
+            buckets.add(new SalaryHistogram.Bucket(bucketStart, last ? null : bucketStart + width, to - from));
+            from = to;
+        }
+        return new SalaryHistogram(total, unknown, width, buckets);
+    }
+
+    private static long roundWidth(long minimum) {
+        long magnitude = 1;
+        while (true) {
+            for (long step : new long[]{1, 2, 5}) {
+                if (step * magnitude >= minimum) return step * magnitude;
+            }
+            magnitude *= 10;
+        }
+    }
+
+    // First index whose salary is >= value
+    private static int lowerBound(int[] salaries, long value) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
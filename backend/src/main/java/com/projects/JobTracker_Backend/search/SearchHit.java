@@ -0,0 +1,15 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A job matching a keyword search, with its BM25 score and posting time for ordering.
+ */
+public record SearchHit(long jobId, float score, long postedAtMillis) {
+
+    // Jobs without a posting time sort as the newest, as PostgreSQL orders a null posted_at
+    public static long toMillis(LocalDateTime postedAt) {
+        return postedAt != null ? postedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,118 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * The skills jobs are tagged with, loaded from classpath:skills.txt ({@code id|name|term|term...}).
+ *
+ * Shared as a singleton so that {@link com.projects.JobTracker_Backend.specification.JobSpecification}
+ * can resolve skill filters without a bean. {@link #getVersion()} changes with any edit of the file,
+ * which makes the tagger retag every job.
+ */
+public final class SkillDictionary {
+
+    private static final String RESOURCE = "/skills.txt";
+    private static final SkillDictionary DEFAULT = load();
+
+    private final Map<Integer, String> nameById;
+    private final Map<String, Integer> idByTerm;
+    private final Set<String> matchedTerms;
+    private final SkillMatcher matcher;
+    private final long version;
+
+    private SkillDictionary(Map<Integer, String> nameById, Map<String, Integer> idByTerm,
+                            Map<String, Integer> idByMatchedTerm, long version) {
+        this.nameById = Collections.unmodifiableMap(nameById);
+        this.idByTerm = Collections.unmodifiableMap(idByTerm);
+        this.matchedTerms = Collections.unmodifiableSet(idByMatchedTerm.keySet());
+        this.matcher = new SkillMatcher(idByMatchedTerm);
+        this.version = version;
+    }
+
+    public static SkillDictionary getDefault() {
+        return DEFAULT;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /** Skill ids whose terms occur as whole words in any of {@code texts}. */
+    public Set<Integer> tag(String... texts) {
+        Set<Integer> skills = matcher.match(texts.length > 0 ? texts[0] : null);
+        for (int i = 1; i < texts.length; i++) {
+            skills.addAll(matcher.match(texts[i]));
+        }
+        return skills;
+    }
+
+    /** Id of the skill named {@code skill} or having it as a term, case-insensitively; null if unknown. */
+    public Integer idOf(String skill) {
+        return skill != null ? idByTerm.get(skill.trim().toLowerCase(Locale.ROOT)) : null;
+    }
+
+    public String nameOf(int skillId) {
+        return nameById.get(skillId);
+    }
+
+    /** The lowercase terms looked for in job text. */
+    public Set<String> getTerms() {
+        return matchedTerms;
+    }
+
+    private static SkillDictionary load() {
+        byte[] content;
+        try (InputStream in = SkillDictionary.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Skill dictionary " + RESOURCE + " is missing");
+            }
+            content = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<Integer, String> nameById = new HashMap<>();
+        Map<String, Integer> idByMatchedTerm = new HashMap<>();
+        for (String line : new String(content, StandardCharsets.UTF_8).split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] parts = line.split("\\|");
+            int id = Integer.parseInt(parts[0].trim());
+            String name = parts[1].trim();
+            if (nameById.put(id, name) != null) {
+                throw new IllegalStateException("Duplicate skill id " + id + " in " + RESOURCE);
+            }
+
+            List<String> terms = new ArrayList<>();
+            for (int i = 2; i < parts.length; i++) {
+                terms.add(parts[i].trim().toLowerCase(Locale.ROOT));
+            }
+            if (terms.isEmpty()) {
+                terms.add(name.toLowerCase(Locale.ROOT));
+            }
+            for (String term : terms) {
+                idByMatchedTerm.putIfAbsent(term, id);
+            }
+        }
+
+        // Filters also accept display names that are not matched in job text ("Go")
+        Map<String, Integer> idByTerm = new HashMap<>(idByMatchedTerm);
+        nameById.forEach((id, name) -> idByTerm.putIfAbsent(name.toLowerCase(Locale.ROOT), id));
+
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return new SkillDictionary(nameById, idByTerm, idByMatchedTerm, crc.getValue());
+    }
+}
@@ -0,0 +1,118 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Aho-Corasick automaton over a fixed set of lowercase terms, each mapped to a skill id.
+ *
+ * A text is scanned once, whatever the number of terms; a term counts only where it stands as whole
+ * words, i.e. it is not preceded or followed by a letter or digit ("java" does not match
+ * "javascript"). Immutable once built and safe to share between threads.
+ */
+final class SkillMatcher {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private int[] failure;
+    // Per state: the skill ids and term lengths of every term ending there, including via failure links
+    private final List<int[]> outputSkills = new ArrayList<>();
+    private final List<int[]> outputLengths = new ArrayList<>();
+
+    SkillMatcher(Map<String, Integer> skillIdByTerm) {
+        newState();
+        for (Map.Entry<String, Integer> entry : skillIdByTerm.entrySet()) {
+            addTerm(entry.getKey(), entry.getValue());
+        }
+        linkFailures();
+    }
+
+    /** Ids of the skills whose terms occur as whole words in {@code text}, ascending. */
+    Set<Integer> match(String text) {
+        Set<Integer> skills = new TreeSet<>();
+        if (text == null || text.isEmpty()) {
+            return skills;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            Integer next;
+            while ((next = transitions.get(state).get(c)) == null && state != 0) {
+                state = failure[state];
+            }
+            state = next != null ? next : 0;
+
+            int[] lengths = outputLengths.get(state);
+            for (int k = 0; k < lengths.length; k++) {
+                int start = i - lengths[k] + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    skills.add(outputSkills.get(state)[k]);
+                }
+            }
+        }
+        return skills;
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>(4));
+        outputSkills.add(new int[0]);
+        outputLengths.add(new int[0]);
+        return transitions.size() - 1;
+    }
+
+    private void addTerm(String term, int skillId) {
+        int state = 0;
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newState();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        appendOutput(state, new int[]{skillId}, new int[]{term.length()});
+    }
+
+    // Breadth-first, so every state's failure target is final before the state itself is linked
+    private void linkFailures() {
+        failure = new int[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                Integer target;
+                while ((target = transitions.get(fallback).get(edge.getKey())) == null && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target != null && target != child ? target : 0;
+                appendOutput(child, outputSkills.get(failure[child]), outputLengths.get(failure[child]));
+                queue.add(child);
+            }
+        }
+    }
+
+    private void appendOutput(int state, int[] skills, int[] lengths) {
+        if (skills.length == 0) return;
+        int[] currentSkills = outputSkills.get(state);
+        int[] currentLengths = outputLengths.get(state);
+        int[] mergedSkills = Arrays.copyOf(currentSkills, currentSkills.length + skills.length);
+        int[] mergedLengths = Arrays.copyOf(currentLengths, currentLengths.length + lengths.length);
+        System.arraycopy(skills, 0, mergedSkills, currentSkills.length, skills.length);
+        System.arraycopy(lengths, 0, mergedLengths, currentLengths.length, lengths.length);
+        outputSkills.set(state, mergedSkills);
+        outputLengths.set(state, mergedLengths);
+    }
+}
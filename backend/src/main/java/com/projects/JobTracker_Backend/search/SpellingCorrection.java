@@ -0,0 +1,15 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Search keywords after spelling correction, with each corrected word mapped to its replacement
+ * (empty when nothing was corrected).
+ */
+public record SpellingCorrection(List<String> keywords, Map<String, String> corrections) {
+
+    public boolean isCorrected() {
+        return !corrections.isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable vocabulary for spelling correction, using symmetric deletes (as in SymSpell).
+ *
+ * Every term is indexed under the strings obtained by deleting up to {@link #MAX_DISTANCE} characters
+ * from its first {@link #PREFIX_LENGTH} characters. Two terms within that edit distance share at least
+ * one such delete, so a lookup only generates the deletes of the misspelled term, collects the terms
+ * indexed under them and verifies each candidate; no scan of the vocabulary is needed. To keep the
+ * index compact, deletes are stored as 32-bit hashes in one sorted {@code long[]} of
+ * (hash, term) pairs; a colliding hash only adds a candidate that fails verification.
+ */
+final class SpellingDictionary {
+
+    static final int MAX_DISTANCE = 2;
+
+    // Longer terms are indexed by their prefix only, bounding the deletes per term to 29
+    private static final int PREFIX_LENGTH = 7;
+
+    private final String[] terms;
+    private final long[] counts;
+    private final long[] deletes;
+
+    private SpellingDictionary(String[] terms, long[] counts, long[] deletes) {
+        this.terms = terms;
+        this.counts = counts;
+        this.deletes = deletes;
+    }
+
+    /** Builds the dictionary of {@code countsByTerm}, whose keys must be lowercase. */
+    static SpellingDictionary build(Map<String, Long> countsByTerm) {
+        String[] terms = countsByTerm.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        long[] counts = new long[terms.length];
+
+        long[] pairs = new long[terms.length * 8];
+        int size = 0;
+        Set<String> termDeletes = new HashSet<>();
+        for (int term = 0; term < terms.length; term++) {
+            counts[term] = countsByTerm.get(terms[term]);
+            termDeletes.clear();
+            collectDeletes(prefix(terms[term]), MAX_DISTANCE, termDeletes);
+            for (String delete : termDeletes) {
+                if (size == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, size * 2);
+                }
+                pairs[size++] = pair(delete.hashCode(), term);
+            }
+        }
+        long[] deletes = Arrays.copyOf(pairs, size);
+        Arrays.sort(deletes);
+        return new SpellingDictionary(terms, counts, deletes);
+    }
+
+    int size() {
+        return terms.length;
+    }
+
+    /** Whether {@code term} is in the vocabulary or is the start of a term in it. */
+    boolean knows(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index >= 0 || (-index - 1 < terms.length && terms[-index - 1].startsWith(term));
+    }
+
+    /**
+     * The term closest to {@code term} within {@code maxDistance} edits (Damerau-Levenshtein), the
+     * most frequent one on ties; null when there is none.
+     */
+    String closest(String term, int maxDistance) {
+        int distanceLimit = Math.min(maxDistance, MAX_DISTANCE);
+        Set<String> queryDeletes = new HashSet<>();
+        collectDeletes(prefix(term), distanceLimit, queryDeletes);
+
+        Set<Integer> checked = new HashSet<>();
+        int best = -1;
+        int bestDistance = distanceLimit + 1;
+        for (String delete : queryDeletes) {
+            int hash = delete.hashCode();
+            for (int i = lowerBound(pair(hash, 0)); i < deletes.length && (int) (deletes[i] >> 32) == hash; i++) {
+                int candidate = (int) deletes[i];
+                if (!checked.add(candidate)) continue;
+
+                String known = terms[candidate];
+                if (Math.abs(known.length() - term.length()) > distanceLimit) continue;
+                int distance = distance(term, known, bestDistance + 1);
+                if (distance < bestDistance || (distance == bestDistance && best >= 0 && isMoreFrequent(candidate, best))) {
+                    best = candidate;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best >= 0 ? terms[best] : null;
+    }
+
+    // Ties on frequency go to the alphabetically first term, so corrections do not depend on hash order
+    private boolean isMoreFrequent(int candidate, int best) {
+        return counts[candidate] > counts[best] || (counts[candidate] == counts[best] && candidate < best);
+    }
+
+    private static String prefix(String term) {
+        return term.length() > PREFIX_LENGTH ? term.substring(0, PREFIX_LENGTH) : term;
+    }
+
+    private static void collectDeletes(String word, int distance, Set<String> into) {
+        if (!into.add(word) || distance == 0 || word.length() <= 1) return;
+        for (int i = 0; i < word.length(); i++) {
+            collectDeletes(word.substring(0, i) + word.substring(i + 1), distance - 1, into);
+        }
+    }
+
+    private static long pair(int hash, int term) {
+        return ((long) hash << 32) | (term & 0xFFFFFFFFL);
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = deletes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (deletes[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Optimal string alignment distance; returns limit as soon as it cannot end below it
+    static int distance(String a, String b, int limit) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin >= limit) {
+                return limit;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], limit);
+    }
+}
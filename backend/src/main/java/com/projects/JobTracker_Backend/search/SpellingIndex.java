@@ -0,0 +1,180 @@
+package com.projects.JobTracker_Backend.search;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.service.CatalogChangedEvent;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Spelling correction of search keywords ("developper" -> "developer", "kubernets" -> "kubernetes").
+ *
+ * The vocabulary is the words of the active job titles of all three tables, weighted by job count,
+ * plus the terms of {@link SkillDictionary}. It is rebuilt on a background thread when the catalog
+ * changes and swapped in as a whole. A keyword word is only rewritten when neither the vocabulary nor
+ * the table's keyword index knows it, so words that occur in descriptions only are left alone; while
+ * the keyword index cannot answer (not loaded, or keyword search served by the database), no word is
+ * rewritten.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SpellingIndex {
+
+    // Shorter words are too ambiguous to correct ("go", "ml", "ui")
+    private static final int MIN_WORD_LENGTH = 4;
+    // Words up to this length are corrected by one edit at most, longer ones by two
+    private static final int SHORT_WORD_LENGTH = 5;
+
+    private final JobCatalogRepository jobCatalogRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.spelling.enabled:true}")
+    private boolean enabled;
+
+    private volatile SpellingDictionary dictionary;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private ExecutorService builder;
+    private Timer correctionTimer;
+
+    @PostConstruct
+    public void init() {
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spelling-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.correctionTimer = Timer.builder("search.spelling.correction")
+                .description("Time spent correcting the spelling of search keywords")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    /**
+     * {@code keywords} with every unknown word replaced by the closest known word, if one is within
+     * reach. Keywords are returned unchanged while the vocabulary is not built yet, and words are kept
+     * as typed while the keyword index cannot tell whether the table has them.
+     */
+    public SpellingCorrection correct(JobType type, List<String> keywords) {
+        SpellingDictionary current = dictionary;
+        if (!enabled || current == null) {
+            return new SpellingCorrection(keywords, Map.of());
+        }
+
+        long startedAt = System.nanoTime();
+        Map<String, String> corrections = new LinkedHashMap<>();
+        List<String> corrected = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String rewritten = keyword;
+            for (String word : TextAnalyzer.tokenize(keyword)) {
+                String replacement = corrections.containsKey(word) ? corrections.get(word) : correctWord(current, type, word);
+                if (replacement != null) {
+                    corrections.put(word, replacement);
+                    rewritten = replaceWord(rewritten, word, replacement);
+                }
+            }
+            corrected.add(rewritten);
+        }
+        correctionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return new SpellingCorrection(corrected, corrections);
+    }
+
+    /** Number of vocabularies built so far; changes whenever corrections may have changed. */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    private String correctWord(SpellingDictionary current, JobType type, String word) {
+        // A word the keyword index cannot vouch for may still occur in descriptions: leave it as typed
+        if (word.length() < MIN_WORD_LENGTH || !isPlainWord(word)
+                || current.knows(word) || jobSearchIndex.hasTerm(type, word).orElse(true)) {
+            return null;
+        }
+        return current.closest(word, word.length() <= SHORT_WORD_LENGTH ? 1 : SpellingDictionary.MAX_DISTANCE);
+    }
+
+    // Versions, years, "c++" style and non-ASCII terms are left as typed
+    private static boolean isPlainWord(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') return false;
+        }
+        return true;
+    }
+
+    private static String replaceWord(String keyword, String word, String replacement) {
+        Pattern pattern = Pattern.compile("(?<![\\p{L}\\p{N}])" + Pattern.quote(word) + "(?![\\p{L}\\p{N}])",
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        return pattern.matcher(keyword).replaceAll(Matcher.quoteReplacement(replacement));
+    }
+
+    // Changes arriving during a rebuild are coalesced into a single follow-up rebuild
+    private void scheduleRebuild() {
+        if (enabled && rebuildPending.compareAndSet(false, true)) {
+            builder.submit(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        rebuildPending.set(false);
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, Long> counts = new HashMap<>();
+            for (Object[] row : jobCatalogRepository.findActiveValueCounts("title")) {
+                long jobs = NativeResults.toLong(row[2]);
+                for (String word : TextAnalyzer.tokenize((String) row[1])) {
+                    counts.merge(word, jobs, Long::sum);
+                }
+            }
+            for (String term : SkillDictionary.getDefault().getTerms()) {
+                for (String word : TextAnalyzer.tokenize(term)) {
+                    counts.putIfAbsent(word, 1L);
+                }
+            }
+            SpellingDictionary built = SpellingDictionary.build(counts);
+            dictionary = built;
+            generation.incrementAndGet();
+            log.info("Built spelling vocabulary of {} words in {} ms", built.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Failed to build spelling vocabulary", e);
+        }
+    }
+}
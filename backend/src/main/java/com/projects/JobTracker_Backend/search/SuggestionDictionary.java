@@ -0,0 +1,157 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable prefix dictionary for typeahead.
+ *
+ * Every value is reachable by its own start and by the start of each later word ("Senior Backend
+ * Engineer" by "sen", "back" and "eng"). Those lowercase keys are kept in one sorted array, so all
+ * keys with a given prefix form a contiguous range found by two binary searches. The top-K values of
+ * a range by job count come from a bounded heap; for one- and two-character prefixes, whose ranges
+ * are the largest, the ranking is precomputed at build time.
+ */
+final class SuggestionDictionary {
+
+    /** Largest number of suggestions a lookup can return. */
+    static final int MAX_LIMIT = 20;
+
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+
+    private final String[] keys;
+    private final int[] entryOfKey;
+    private final String[] labels;
+    private final long[] counts;
+    private final Map<String, int[]> shortPrefixTop;
+
+    private SuggestionDictionary(String[] keys, int[] entryOfKey, String[] labels, long[] counts) {
+        this.keys = keys;
+        this.entryOfKey = entryOfKey;
+        this.labels = labels;
+        this.counts = counts;
+        this.shortPrefixTop = precomputeShortPrefixes();
+    }
+
+    static SuggestionDictionary build(Map<String, Long> countsByLabel) {
+        String[] labels = countsByLabel.keySet().toArray(new String[0]);
+        long[] counts = new long[labels.length];
+        List<Key> keyList = new ArrayList<>(labels.length * 2);
+        for (int entry = 0; entry < labels.length; entry++) {
+            counts[entry] = countsByLabel.get(labels[entry]);
+            String normalized = normalize(labels[entry]);
+            for (int start = 0; start < normalized.length(); start = nextWordStart(normalized, start)) {
+                keyList.add(new Key(normalized.substring(start), entry));
+            }
+        }
+        keyList.sort(Comparator.comparing(Key::text));
+
+        String[] keys = new String[keyList.size()];
+        int[] entryOfKey = new int[keyList.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyList.get(i).text();
+            entryOfKey[i] = keyList.get(i).entry();
+        }
+        return new SuggestionDictionary(keys, entryOfKey, labels, counts);
+    }
+
+    int size() {
+        return labels.length;
+    }
+
+    /** Up to {@code limit} values having a word that starts with {@code prefix}, most jobs first. */
+    List<Map.Entry<String, Long>> top(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        int wanted = Math.min(limit, MAX_LIMIT);
+        if (normalized.isEmpty() || wanted <= 0) {
+            return List.of();
+        }
+
+        int[] ranked = normalized.length() <= PRECOMPUTED_PREFIX_LENGTH
+                ? shortPrefixTop.getOrDefault(normalized, new int[0])
+                : rank(lowerBound(normalized), lowerBound(normalized + Character.MAX_VALUE), wanted);
+
+        List<Map.Entry<String, Long>> result = new ArrayList<>(Math.min(wanted, ranked.length));
+        for (int i = 0; i < ranked.length && i < wanted; i++) {
+            result.add(Map.entry(labels[ranked[i]], counts[ranked[i]]));
+        }
+        return result;
+    }
+
+    // Top entries of keys[from, to), best first, each entry once
+    private int[] rank(int from, int to, int limit) {
+        Comparator<Integer> worstFirst = Comparator.<Integer>comparingLong(entry -> counts[entry])
+                .thenComparing(entry -> labels[entry], Comparator.reverseOrder());
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, worstFirst);
+        int lastEntry = -1;
+        for (int i = from; i < to; i++) {
+            int entry = entryOfKey[i];
+            // Keys of one entry within a range are rarely adjacent, so check the heap as well
+            if (entry == lastEntry || heap.contains(entry)) continue;
+            lastEntry = entry;
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (worstFirst.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        int[] ranked = new int[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll();
+        }
+        return ranked;
+    }
+
+    private Map<String, int[]> precomputeShortPrefixes() {
+        Map<String, int[]> top = new HashMap<>();
+        for (int length = 1; length <= PRECOMPUTED_PREFIX_LENGTH; length++) {
+            int from = 0;
+            while (from < keys.length) {
+                if (keys[from].length() < length) {
+                    from++;
+                    continue;
+                }
+                String prefix = keys[from].substring(0, length);
+                int to = lowerBound(prefix + Character.MAX_VALUE);
+                top.put(prefix, rank(from, to, MAX_LIMIT));
+                from = to;
+            }
+        }
+        return top;
+    }
+
+    // First index whose key is >= key; keys repeat (many values share a word), so not Arrays.binarySearch
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int nextWordStart(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) i++;
+        while (i < text.length() && !Character.isLetterOrDigit(text.charAt(i))) i++;
+        return i;
+    }
+
+    private record Key(String text, int entry) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.projects.JobTracker_Backend.search;
+
+import com.projects.JobTracker_Backend.dto.SuggestionDTO;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.service.CatalogChangedEvent;
+import com.projects.JobTracker_Backend.service.CompanyService;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Typeahead suggestions for the company, title and location filter inputs.
+ *
+ * One {@link SuggestionDictionary} per field, built from the distinct values of the active jobs of
+ * all three tables (companies also from {@link CompanyService#getAvailableCompanies()}) and ranked by
+ * active job count. Dictionaries are rebuilt on a background thread when the catalog changes and
+ * swapped in as a whole, so a lookup never touches the database or waits for a rebuild.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionIndex {
+
+    public enum Field {
+        COMPANY("company"),
+        TITLE("title"),
+        LOCATION("location");
+
+        private final String column;
+
+        Field(String column) {
+            this.column = column;
+        }
+    }
+
+    private final JobCatalogRepository jobCatalogRepository;
+    private final CompanyService companyService;
+
+    private volatile Map<Field, SuggestionDictionary> dictionaries = Collections.emptyMap();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private ExecutorService builder;
+
+    @PostConstruct
+    public void init() {
+        this.builder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "suggestion-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    /** Up to {@code limit} values of {@code field} with a word starting with {@code prefix}, most active jobs first. */
+    public List<SuggestionDTO> suggest(Field field, String prefix, int limit) {
+        SuggestionDictionary dictionary = dictionaries.get(field);
+        if (dictionary == null || prefix == null) {
+            return List.of();
+        }
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : dictionary.top(prefix, limit)) {
+            suggestions.add(new SuggestionDTO(entry.getKey(), entry.getValue()));
+        }
+        return suggestions;
+    }
+
+    // Changes arriving during a rebuild are coalesced into a single follow-up rebuild
+    private void scheduleRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            builder.submit(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        rebuildPending.set(false);
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<Field, SuggestionDictionary> built = new EnumMap<>(Field.class);
+            for (Field field : Field.values()) {
+                built.put(field, SuggestionDictionary.build(loadCounts(field)));
+            }
+            dictionaries = built;
+            log.info("Built suggestions ({} companies, {} titles, {} locations) in {} ms",
+                    built.get(Field.COMPANY).size(), built.get(Field.TITLE).size(),
+                    built.get(Field.LOCATION).size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Failed to build suggestions", e);
+        }
+    }
+
+    // Display spelling -> active job count, one spelling per case-insensitive value
+    private Map<String, Long> loadCounts(Field field) {
+        Map<String, String> labels = new HashMap<>();
+        Map<String, Long> counts = new HashMap<>();
+        if (field == Field.COMPANY) {
+            // Curated names win over ingested spellings and are suggested even with no open jobs
+            for (String company : companyService.getAvailableCompanies()) {
+                String key = company.toLowerCase(Locale.ROOT);
+                labels.putIfAbsent(key, company);
+                counts.putIfAbsent(key, 0L);
+            }
+        }
+        for (Object[] row : jobCatalogRepository.findActiveValueCounts(field.column)) {
+            String key = ((String) row[0]).toLowerCase(Locale.ROOT);
+            labels.putIfAbsent(key, (String) row[1]);
+            counts.merge(key, NativeResults.toLong(row[2]), Long::sum);
+        }
+
+        Map<String, Long> byLabel = new HashMap<>();
+        counts.forEach((key, count) -> byLabel.put(labels.get(key), count));
+        return byLabel;
+    }
+}
@@ -0,0 +1,50 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits job text into index terms: lower-cased runs of letters and digits.
+ * '+' and '#' are kept when they trail a term so "c++" and "c#" survive as their own terms.
+ */
+public final class TextAnalyzer {
+
+    // Longer runs are almost always URLs, hashes or base64 noise from scraped descriptions
+    static final int MAX_TERM_LENGTH = 30;
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(lower.charAt(i))) i++;
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(lower.charAt(i))) i++;
+            while (i < length && i > start && (lower.charAt(i) == '+' || lower.charAt(i) == '#')) i++;
+
+            int termLength = i - start;
+            if (termLength > 0 && termLength <= MAX_TERM_LENGTH && !isLongNumber(lower, start, i)) {
+                terms.add(lower.substring(start, i));
+            }
+        }
+        return terms;
+    }
+
+    // Phone numbers, ids and zip codes only bloat the dictionary; short numbers ("3d", "5", "2025") are kept
+    private static boolean isLongNumber(String text, int start, int end) {
+        if (end - start <= 4) return false;
+        for (int i = start; i < end; i++) {
+            if (!Character.isDigit(text.charAt(i))) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,328 @@
+package com.projects.JobTracker_Backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over the active jobs of one table.
+ *
+ * Jobs get increasing internal document numbers, so postings stay sorted by appending; an updated
+ * job is re-added under a new number and its old document is marked deleted. Deleted documents
+ * are skipped at query time and dropped by {@link #compact()}. Document frequencies still count
+ * deleted documents until then, which only shifts IDF slightly.
+ *
+ * Not thread-safe; the owner serializes writers against readers.
+ */
+final class TextIndexSegment {
+
+    // Field boosts folded into the term frequency: a title hit outweighs a company hit outweighs the description
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COMPANY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // BM25 parameters
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Prefix expansions score lower than the exact term, and only the most common ones are used
+    private static final float PREFIX_WEIGHT = 0.5f;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_EXPANSIONS = 32;
+
+    private final TreeMap<String, PostingsList> postings = new TreeMap<>();
+    private final Map<Long, Integer> docByJobId = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private long[] jobIds = new long[1024];
+    private long[] postedAt = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+
+    void add(long jobId, String title, String company, String description, long postedAtMillis) {
+        delete(jobId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTerms(frequencies, title, TITLE_WEIGHT)
+                + addTerms(frequencies, company, COMPANY_WEIGHT)
+                + addTerms(frequencies, description, DESCRIPTION_WEIGHT);
+
+        int doc = docCount++;
+        if (doc == jobIds.length) {
+            int capacity = jobIds.length * 2;
+            jobIds = Arrays.copyOf(jobIds, capacity);
+            postedAt = Arrays.copyOf(postedAt, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+        jobIds[doc] = jobId;
+        postedAt[doc] = postedAtMillis;
+        docLengths[doc] = length;
+
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new PostingsList()).add(doc, frequency));
+
+        docByJobId.put(jobId, doc);
+        live.set(doc);
+        liveCount++;
+        liveLength += length;
+    }
+
+    void delete(long jobId) {
+        Integer doc = docByJobId.remove(jobId);
+        if (doc != null) {
+            live.clear(doc);
+            liveCount--;
+            liveLength -= docLengths[doc];
+        }
+    }
+
+    boolean contains(long jobId) {
+        return docByJobId.containsKey(jobId);
+    }
+
+    // Also true for the start of an indexed term, which search() expands as a prefix
+    boolean hasTerm(String term) {
+        String next = postings.ceilingKey(term);
+        return next != null && next.startsWith(term);
+    }
+
+    long[] liveJobIds() {
+        long[] ids = new long[liveCount];
+        int i = 0;
+        for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+            ids[i++] = jobIds[doc];
+        }
+        return ids;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    double deletedRatio() {
+        return docCount == 0 ? 0 : (double) (docCount - liveCount) / docCount;
+    }
+
+    /** Renumbers live documents densely and drops postings of deleted ones. */
+    void compact() {
+        int[] docMap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            docMap[doc] = live.get(doc) ? next++ : -1;
+        }
+
+        long[] newJobIds = new long[Math.max(1024, next)];
+        long[] newPostedAt = new long[newJobIds.length];
+        int[] newDocLengths = new int[newJobIds.length];
+        for (int doc = 0; doc < docCount; doc++) {
+            int mapped = docMap[doc];
+            if (mapped >= 0) {
+                newJobIds[mapped] = jobIds[doc];
+                newPostedAt[mapped] = postedAt[doc];
+                newDocLengths[mapped] = docLengths[doc];
+                docByJobId.put(jobIds[doc], mapped);
+            }
+        }
+
+        postings.entrySet().removeIf(entry -> {
+            PostingsList remapped = entry.getValue().remap(docMap);
+            if (remapped == null) return true;
+            entry.setValue(remapped);
+            return false;
+        });
+
+        jobIds = newJobIds;
+        postedAt = newPostedAt;
+        docLengths = newDocLengths;
+        docCount = next;
+        live.clear();
+        live.set(0, next);
+    }
+
+    /** Releases spare capacity after a bulk load. */
+    void trim() {
+        postings.values().forEach(PostingsList::trim);
+    }
+
+    long estimatedHeapBytes() {
+        long bytes = (long) jobIds.length * (8 + 8 + 4) + (long) docByJobId.size() * 64;
+        for (Map.Entry<String, PostingsList> entry : postings.entrySet()) {
+            bytes += 40 + 40 + 2L * entry.getKey().length() + entry.getValue().estimatedHeapBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * BM25-ranked search. Each keyword is a list of terms that must all match (a term also
+     * matches longer terms it is a prefix of); a job matches when any keyword does, and its
+     * score is the sum over the keywords it matches.
+     *
+     * Scores are accumulated sparsely: only documents in the postings of a keyword's first term
+     * are tracked, and later terms only update those, so the cost follows the postings read
+     * rather than the size of the segment.
+     */
+    List<SearchHit> search(List<List<String>> keywords) {
+        if (liveCount == 0) {
+            return List.of();
+        }
+
+        float avgLength = Math.max(1f, (float) liveLength / liveCount);
+        DocScores matched = new DocScores(16);
+
+        for (List<String> terms : keywords) {
+            if (terms.isEmpty()) continue;
+
+            String first = terms.get(0);
+            PostingsList exact = postings.get(first);
+            List<PostingsList> firstExpansions = prefixExpansions(first);
+            int candidates = exact != null ? exact.size() : 0;
+            for (PostingsList expansion : firstExpansions) {
+                candidates += expansion.size();
+            }
+            if (candidates == 0) continue;
+
+            DocScores keywordScores = new DocScores(candidates);
+            for (int t = 0; t < terms.size(); t++) {
+                int termNumber = t + 1;
+                String term = terms.get(t);
+                accumulate(t == 0 ? exact : postings.get(term), 1f, termNumber, avgLength, keywordScores);
+                for (PostingsList expansion : t == 0 ? firstExpansions : prefixExpansions(term)) {
+                    accumulate(expansion, PREFIX_WEIGHT, termNumber, avgLength, keywordScores);
+                }
+            }
+
+            int required = terms.size();
+            for (int slot = 0; slot < keywordScores.docs.length; slot++) {
+                int doc = keywordScores.docs[slot];
+                if (doc >= 0 && keywordScores.terms[slot] == required) {
+                    int matchedSlot = matched.slot(doc, true);
+                    matched.scores[matchedSlot] += keywordScores.scores[slot];
+                }
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(matched.size);
+        for (int slot = 0; slot < matched.docs.length; slot++) {
+            int doc = matched.docs[slot];
+            if (doc >= 0) {
+                hits.add(new SearchHit(jobIds[doc], matched.scores[slot], postedAt[doc]));
+            }
+        }
+        return hits;
+    }
+
+    // Term 1 adds documents; term n only counts for documents that matched terms 1..n-1
+    private void accumulate(PostingsList list, float weight, int termNumber, float avgLength, DocScores keywordScores) {
+        if (list == null) return;
+
+        int df = list.size();
+        float idf = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+        if (idf <= 0) idf = 0.01f;
+
+        PostingsList.Cursor cursor = list.cursor();
+        while (cursor.next()) {
+            int doc = cursor.doc();
+            if (!live.get(doc)) continue;
+
+            int slot = keywordScores.slot(doc, termNumber == 1);
+            if (slot < 0) continue;
+            int terms = keywordScores.terms[slot];
+            if (terms == termNumber - 1) {
+                keywordScores.terms[slot] = termNumber;
+            } else if (terms != termNumber) {
+                continue;
+            }
+
+            float tf = cursor.frequency();
+            float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+            keywordScores.scores[slot] += weight * idf * (tf * (K1 + 1)) / (tf + norm);
+        }
+    }
+
+    private List<PostingsList> prefixExpansions(String term) {
+        if (term.length() < MIN_PREFIX_LENGTH) {
+            return List.of();
+        }
+        NavigableMap<String, PostingsList> range = postings.subMap(term, false, term + Character.MAX_VALUE, false);
+        if (range.size() <= MAX_PREFIX_EXPANSIONS) {
+            return new ArrayList<>(range.values());
+        }
+        return range.values().stream()
+                .sorted(Comparator.comparingInt(PostingsList::size).reversed())
+                .limit(MAX_PREFIX_EXPANSIONS)
+                .toList();
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> terms = TextAnalyzer.tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    /**
+     * Open-addressing map from document to score and number of leading terms matched, for the
+     * documents one search reaches.
+     */
+    private static final class DocScores {
+
+        private int[] docs;
+        private float[] scores;
+        private int[] terms;
+        private int size;
+
+        DocScores(int expected) {
+            allocate(Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1);
+        }
+
+        /** Slot of {@code doc}, added when {@code insert}; -1 when absent and not added. */
+        int slot(int doc, boolean insert) {
+            int mask = docs.length - 1;
+            int slot = (doc * 0x9E3779B9) >>> 1 & mask;
+            while (docs[slot] >= 0) {
+                if (docs[slot] == doc) return slot;
+                slot = (slot + 1) & mask;
+            }
+            if (!insert) return -1;
+
+            if ((size + 1) * 2 > docs.length) {
+                grow();
+                return slot(doc, true);
+            }
+            docs[slot] = doc;
+            size++;
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldDocs = docs;
+            float[] oldScores = scores;
+            int[] oldTerms = terms;
+            allocate(oldDocs.length * 2);
+            for (int i = 0; i < oldDocs.length; i++) {
+                if (oldDocs[i] >= 0) {
+                    int slot = slot(oldDocs[i], true);
+                    scores[slot] = oldScores[i];
+                    terms[slot] = oldTerms[i];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            docs = new int[capacity];
+            Arrays.fill(docs, -1);
+            scores = new float[capacity];
+            terms = new int[capacity];
+            size = 0;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.projects.JobTracker_Backend.security;
 
 
+import com.projects.JobTracker_Backend.enums.Role;
 import com.projects.JobTracker_Backend.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +11,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,6 +23,8 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtils;
     @Autowired
     private CustomUserDetailsService userDetailsService;
+    @Autowired
+    private UserStatusCache userStatusCache;
 
     @Override
     protected void doFilterInternal(
@@ -31,17 +34,18 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (jwt != null) {
+                UserPrincipal principal = buildPrincipal(jwtUtils.parseClaims(jwt));
+                if (principal != null && principal.isEnabled() && principal.isAccountNonLocked()) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    principal,
+                                    null,
+                                    principal.getAuthorities()
+                            );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             System.out.println("Cannot set user authentication: " + e);
@@ -49,6 +53,20 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Tokens carry uid/role claims; only the account flags are looked up (cached for a few seconds).
+    // Tokens issued before those claims existed fall back to a user lookup until they expire.
+    private UserPrincipal buildPrincipal(Claims claims) {
+        Number userId = claims.get(JwtUtil.USER_ID_CLAIM, Number.class);
+        String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return (UserPrincipal) userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+
+        return userStatusCache.get(userId.longValue())
+                .map(status -> UserPrincipal.fromClaims(userId.longValue(), claims.getSubject(), Role.valueOf(role), status))
+                .orElse(null);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         if (headerAuth != null && headerAuth.startsWith("Bearer ")) {
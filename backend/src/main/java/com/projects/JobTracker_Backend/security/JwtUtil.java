@@ -1,5 +1,9 @@
 package com.projects.JobTracker_Backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.projects.JobTracker_Backend.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -9,20 +13,52 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
+    @Value("${jwt.verified-cache.max-tokens:10000}")
+    private long verifiedCacheMaxTokens;
     private SecretKey key;
+    private JwtParser parser;
+
+    // Claims of tokens whose signature has already been verified, keyed by the signature segment
+    // and kept only until the token's own expiry
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     // Initializes the key after the class is instantiated and the jwtSecret is injected,
     // preventing the repeated creation of the key and enhancing performance
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxTokens)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String signature, VerifiedToken verified, long currentTime) {
+                        long remainingMs = verified.claims().getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String signature, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return expireAfterCreate(signature, verified, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String signature, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     // Generate JWT token
@@ -35,19 +71,48 @@ public class JwtUtil {
                 .compact();
     }
 
+    // Generate JWT token carrying the claims the request filter needs to build a UserPrincipal
+    public String generateToken(User user) {
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // Verify the token and return its claims in a single parse; throws JwtException when invalid.
+    // A token seen before is answered from the verified cache as long as it matches byte-for-byte,
+    // so the HMAC and JSON decoding run once per token rather than once per request.
+    // The returned claims are shared between requests and must not be modified.
+    public Claims parseClaims(String token) {
+        String signature = signatureOf(token);
+        if (signature != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(signature);
+            if (cached != null && cached.token().equals(token)
+                    && cached.claims().getExpiration().getTime() > System.currentTimeMillis()) {
+                return cached.claims();
+            }
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (signature != null && claims.getExpiration() != null) {
+            verifiedTokens.put(signature, new VerifiedToken(token, claims));
+        }
+        return claims;
+    }
+
     // Get username from JWT token
     public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // Validate JWT token
     public boolean validateJwtToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (SecurityException e) {
             System.out.println("Invalid JWT signature: " + e.getMessage());
@@ -62,4 +127,12 @@ public class JwtUtil {
         }
         return false;
     }
+
+    private static String signatureOf(String token) {
+        int lastDot = token == null ? -1 : token.lastIndexOf('.');
+        return lastDot < 0 || lastDot == token.length() - 1 ? null : token.substring(lastDot + 1);
+    }
+
+    private record VerifiedToken(String token, Claims claims) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.projects.JobTracker_Backend.security;
+
+/**
+ * The account flags that can revoke an otherwise valid JWT.
+ */
+public record UserAccountStatus(boolean enabled, boolean locked) {
+
+    // JPQL constructor expression target; null flags fall back to the entity defaults
+    public UserAccountStatus(Boolean enabled, Boolean locked) {
+        this(!Boolean.FALSE.equals(enabled), Boolean.TRUE.equals(locked));
+    }
+}
@@ -0,0 +1,68 @@
+package com.projects.JobTracker_Backend.security;
+
+import com.projects.JobTracker_Backend.enums.Role;
+import com.projects.JobTracker_Backend.model.User;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated user as seen by controllers and services.
+ *
+ * Built from JWT claims on every request (no user-table query); only the enabled / locked
+ * flags come from {@link UserStatusCache}. The password is present only while a login is
+ * being authenticated and is erased afterwards.
+ */
+@Getter
+public class UserPrincipal implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    private final String username;
+    private final Role role;
+    private final boolean enabled;
+    private final boolean locked;
+    private String password;
+
+    private UserPrincipal(Long id, String username, String password, Role role, boolean enabled, boolean locked) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.enabled = enabled;
+        this.locked = locked;
+    }
+
+    public static UserPrincipal fromUser(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getRole(),
+                !Boolean.FALSE.equals(user.getAccountEnabled()),
+                Boolean.TRUE.equals(user.getAccountLocked()));
+    }
+
+    public static UserPrincipal fromClaims(Long id, String username, Role role, UserAccountStatus status) {
+        return new UserPrincipal(id, username, null, role, status.enabled(), status.locked());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return !locked;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+}
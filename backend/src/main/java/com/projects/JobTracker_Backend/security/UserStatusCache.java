@@ -0,0 +1,51 @@
+package com.projects.JobTracker_Backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projects.JobTracker_Backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of each user's enabled / locked flags.
+ * Lets the JWT filter authenticate without touching the user table on every request while
+ * still picking up a lock or disable within {@code security.user-status.ttl-seconds}.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${security.user-status.ttl-seconds:30}")
+    private long ttlSeconds;
+    @Value("${security.user-status.max-users:10000}")
+    private long maxUsers;
+
+    private Cache<Long, Optional<UserAccountStatus>> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Returns the user's flags, or empty when the user no longer exists.
+     */
+    public Optional<UserAccountStatus> get(Long userId) {
+        return cache.get(userId, userRepository::findAccountStatusById);
+    }
+
+    // Call after changing a user's flags to apply them immediately instead of after the TTL
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
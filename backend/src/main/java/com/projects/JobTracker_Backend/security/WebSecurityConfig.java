@@ -77,6 +77,7 @@ public class WebSecurityConfig {
         config.setAllowedOrigins(frontendUrls);
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("X-Search-Corrections", "X-Total-Approximate"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
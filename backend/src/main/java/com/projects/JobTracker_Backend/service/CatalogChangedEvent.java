@@ -0,0 +1,11 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+
+import java.util.Set;
+
+/**
+ * Published by {@link CatalogVersionService} when one or more job tables changed since the last poll.
+ */
+public record CatalogChangedEvent(long version, Set<JobType> changedTypes) {
+}
@@ -0,0 +1,106 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Tracks a version of the job catalog.
+ *
+ * Jobs are written by the ingestion scripts, not by this service, so changes are detected by
+ * polling a cheap per-table signature (active count, max id, max updated_at). The version is a
+ * fingerprint of those signatures: it changes whenever any table changes and is stable across
+ * restarts, so it can be handed to clients (cursors, ETags) and used as a cache key.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogVersionService {
+
+    private final JobCatalogRepository jobCatalogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Map<JobType, Long> tableVersions = Collections.emptyMap();
+    private volatile Map<JobType, Long> activeCounts = Collections.emptyMap();
+    private volatile long version;
+
+    /** Current catalog version; 0 until the first poll has completed. */
+    public long getVersion() {
+        return version;
+    }
+
+    public long getVersion(JobType type) {
+        return tableVersions.getOrDefault(type, 0L);
+    }
+
+    /** Active jobs of the table as of the last poll, for totals that may lag; empty until the first poll. */
+    public OptionalLong getActiveCount(JobType type) {
+        Long count = activeCounts.get(type);
+        return count != null ? OptionalLong.of(count) : OptionalLong.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.poll-interval-ms:30000}")
+    public void poll() {
+        Map<JobType, Long> polled = new EnumMap<>(JobType.class);
+        Map<JobType, Long> polledCounts = new EnumMap<>(JobType.class);
+        try {
+            for (Object[] row : jobCatalogRepository.findCatalogSignatures()) {
+                LocalDateTime maxUpdatedAt = row[3] != null ? NativeResults.toLocalDateTime(row[3]) : null;
+                polledCounts.put(JobType.valueOf((String) row[0]), NativeResults.toLong(row[1]));
+                polled.put(JobType.valueOf((String) row[0]), fingerprint(
+                        NativeResults.toLong(row[1]),
+                        NativeResults.toLong(row[2]),
+                        maxUpdatedAt != null ? maxUpdatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Catalog version poll failed: {}", e.getMessage());
+            return;
+        }
+
+        Set<JobType> changed = EnumSet.noneOf(JobType.class);
+        for (JobType type : JobType.values()) {
+            if (!Objects.equals(polled.get(type), tableVersions.get(type))) {
+                changed.add(type);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        long newVersion = 0;
+        for (JobType type : JobType.values()) {
+            newVersion = mix(newVersion ^ polled.getOrDefault(type, 0L));
+        }
+        tableVersions = polled;
+        activeCounts = polledCounts;
+        version = newVersion;
+        log.debug("Catalog version {} (changed: {})", newVersion, changed);
+        eventPublisher.publishEvent(new CatalogChangedEvent(newVersion, Collections.unmodifiableSet(changed)));
+    }
+
+    private static long fingerprint(long activeCount, long maxId, long maxUpdatedAtMillis) {
+        return mix(mix(mix(activeCount) ^ maxId) ^ maxUpdatedAtMillis);
+    }
+
+    // 64-bit finalizer from SplitMix64; spreads small input differences over the whole value
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,15 +2,13 @@ package com.projects.JobTracker_Backend.service;
 
 import com.projects.JobTracker_Backend.model.User;
 import com.projects.JobTracker_Backend.repository.UserRepository;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
@@ -29,15 +27,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found with identifier: " + loginIdentifier));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                user.getAccountEnabled(),
-                true, // accountNonExpired
-                true, // credentialsNonExpired
-                !user.getAccountLocked(), // accountNonLocked
-                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-        );
+        return UserPrincipal.fromUser(user);
     }
 
 
@@ -0,0 +1,123 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Approximate totals for listing pages loaded without a count query (?total=approximate).
+ *
+ * Unfiltered listings take the table's active count from the last {@link CatalogVersionService} poll.
+ * Filtered ones are counted once per filter shape ({@link JobPageKey.Builder#shape()}) and cached;
+ * after the catalog version moves on, the old count keeps being served while a background thread
+ * recounts it, so no request waits for a count it has already seen once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobCountCache {
+
+    private final CatalogVersionService catalogVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jobs.count-cache.max-entries:10000}")
+    private long maxEntries;
+
+    private Cache<JobPageKey, Count> cache;
+    private final Set<JobPageKey> recounting = ConcurrentHashMap.newKeySet();
+    private ExecutorService recounter;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobCounts");
+        this.recounter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-count-recounter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recounter.shutdownNow();
+    }
+
+    /**
+     * {@code jobs} as a page with an approximate total. Slices that already are pages (keyword
+     * searches served by the index know their total) are returned as they are. {@code counter} counts
+     * the jobs of {@code shape}; it may run on another thread, in a transaction of its own.
+     */
+    public Page<JobDTO> withApproximateTotal(Slice<JobDTO> jobs, JobPageKey shape, boolean filtered,
+                                             Supplier<Long> counter) {
+        if (jobs instanceof Page<JobDTO> page) {
+            return page;
+        }
+
+        long offset = jobs.getPageable().getOffset();
+        long total;
+        if (!jobs.hasNext() && (jobs.hasContent() || offset == 0)) {
+            // The last page gives the exact total away
+            total = offset + jobs.getNumberOfElements();
+        } else {
+            long counted = filtered
+                    ? count(shape, counter)
+                    : catalogVersionService.getActiveCount(shape.type()).orElseGet(() -> count(shape, counter));
+            // A lagging count is never reported below what this page has already seen
+            total = jobs.hasNext() ? Math.max(counted, offset + jobs.getNumberOfElements() + 1) : counted;
+        }
+        return new PageImpl<>(jobs.getContent(), jobs.getPageable(), total);
+    }
+
+    private long count(JobPageKey shape, Supplier<Long> counter) {
+        long version = catalogVersionService.getVersion(shape.type());
+        Count cached = cache.getIfPresent(shape);
+        if (cached == null) {
+            long count = counter.get();
+            cache.put(shape, new Count(count, version));
+            return count;
+        }
+        if (cached.catalogVersion() != version && recounting.add(shape)) {
+            recounter.submit(() -> recount(shape, counter, version));
+        }
+        return cached.count();
+    }
+
+    private void recount(JobPageKey shape, Supplier<Long> counter, long version) {
+        try {
+            Long count = transactionTemplate.execute(status -> counter.get());
+            if (count != null) {
+                cache.put(shape, new Count(count, version));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Recounting {} jobs for {} failed: {}", shape.type(), shape.query(), e.getMessage());
+        } finally {
+            recounting.remove(shape);
+        }
+    }
+
+    private record Count(long count, long catalogVersion) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.projects.JobTracker_Backend.service;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated job feed: the (postedAt, id) of the last job returned, the sort it
+ * was returned in and the catalog version the scroll started at. Clients treat it as an opaque string.
+ */
+public record JobCursor(LocalDateTime postedAt, long id, Sort.Direction direction, long catalogVersion) {
+
+    /** The only sort property cursors support; id breaks ties. */
+    public static final String SORT_PROPERTY = "postedAt";
+
+    private static final String FORMAT_VERSION = "1";
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                FORMAT_VERSION,
+                postedAt != null ? postedAt.toString() : "",
+                Long.toString(id),
+                SORT_PROPERTY + "," + direction.name(),
+                Long.toString(catalogVersion));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            String[] sort = parts.length == 5 ? parts[3].split(",") : new String[0];
+            if (!FORMAT_VERSION.equals(parts[0]) || sort.length != 2 || !SORT_PROPERTY.equals(sort[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new JobCursor(
+                    parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]),
+                    Sort.Direction.valueOf(sort[1]),
+                    Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException and bad Base64 are IllegalArgumentExceptions too
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
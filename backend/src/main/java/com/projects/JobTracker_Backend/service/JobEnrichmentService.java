@@ -0,0 +1,128 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.AppliedJob;
+import com.projects.JobTracker_Backend.model.BaseJob;
+import com.projects.JobTracker_Backend.repository.AppliedJobRepository;
+import com.projects.JobTracker_Backend.repository.SavedJobRepository;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Overlays the current user's saved / applied / followed state onto a page of jobs.
+ * Saved / applied state comes from the in-memory {@link UserInteractionIndex}; users too large
+ * to index are resolved per page with one query per interaction table for each job type present.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobEnrichmentService {
+
+    private final SavedJobRepository savedJobRepository;
+    private final AppliedJobRepository appliedJobRepository;
+    private final PreferenceService preferenceService;
+    private final UserInteractionIndex userInteractionIndex;
+    private final JobSkillTaggingService jobSkillTaggingService;
+
+    public Page<JobDTO> enrichJobsWithUserData(Page<? extends BaseJob> jobs, UserPrincipal user) {
+        List<JobDTO> dtoList = enrichJobsWithUserData(jobs.getContent(), user);
+        return new PageImpl<>(dtoList, jobs.getPageable(), jobs.getTotalElements());
+    }
+
+    public JobDTO enrichJobWithUserData(BaseJob job, UserPrincipal user) {
+        if (job == null) return null;
+        List<JobDTO> dtoList = enrichJobsWithUserData(List.of(job), user);
+        return dtoList.isEmpty() ? null : dtoList.get(0);
+    }
+
+    public List<JobDTO> enrichJobsWithUserData(List<? extends BaseJob> jobs, UserPrincipal user) {
+        List<JobDTO> dtoList = new ArrayList<>(jobs.size());
+        for (BaseJob job : jobs) {
+            JobDTO dto = JobDTO.fromEntity(job);
+            if (dto != null) dtoList.add(dto);
+        }
+        jobSkillTaggingService.attachSkills(dtoList);
+        return applyUserData(dtoList, user);
+    }
+
+    /**
+     * Overlays user state onto DTOs that carry none yet, e.g. copies from {@link JobPageCache}.
+     * The DTOs are updated in place.
+     */
+    public <S extends Slice<JobDTO>> S applyUserData(S jobs, UserPrincipal user) {
+        applyUserData(jobs.getContent(), user);
+        return jobs;
+    }
+
+    private List<JobDTO> applyUserData(List<JobDTO> dtoList, UserPrincipal user) {
+        if (user == null || dtoList.isEmpty()) {
+            return dtoList;
+        }
+
+        Map<JobType, List<JobDTO>> dtosByType = new EnumMap<>(JobType.class);
+        for (JobDTO dto : dtoList) {
+            dtosByType.computeIfAbsent(dto.getJobType(), type -> new ArrayList<>()).add(dto);
+        }
+
+        UserInteractions interactions = userInteractionIndex.get(user.getId());
+        if (interactions != null) {
+            dtosByType.forEach((type, dtos) -> applyInteractionState(type, dtos, interactions));
+        } else {
+            dtosByType.forEach((type, dtos) -> applyInteractionState(type, dtos, user.getId()));
+        }
+
+        Set<String> followedCompanies = preferenceService.getFollowedCompanyKeys(user.getId());
+        for (JobDTO dto : dtoList) {
+            dto.setIsFollowed(dto.getCompany() != null
+                    && followedCompanies.contains(PreferenceService.normalizeCompany(dto.getCompany())));
+        }
+
+        return dtoList;
+    }
+
+    private void applyInteractionState(JobType type, List<JobDTO> dtos, UserInteractions interactions) {
+        for (JobDTO dto : dtos) {
+            dto.setIsSaved(interactions.isSaved(type, dto.getId()));
+
+            AppliedJob.ApplicationStatus status = interactions.getApplicationStatus(type, dto.getId());
+            dto.setIsApplied(status != null);
+            if (status != null) {
+                dto.setApplicationStatus(status.name());
+                dto.setAppliedAt(interactions.getAppliedAt(type, dto.getId()));
+            }
+        }
+    }
+
+    private void applyInteractionState(JobType type, List<JobDTO> dtos, Long userId) {
+        Set<Long> jobIds = new HashSet<>();
+        for (JobDTO dto : dtos) {
+            jobIds.add(dto.getId());
+        }
+
+        Set<Long> savedIds = new HashSet<>(
+                savedJobRepository.findSavedJobIds(userId, type.getEntityClass(), jobIds));
+
+        Map<Long, Object[]> applicationStates = new HashMap<>();
+        for (Object[] row : appliedJobRepository.findApplicationStates(userId, type.getEntityClass(), jobIds)) {
+            applicationStates.put((Long) row[0], row);
+        }
+
+        for (JobDTO dto : dtos) {
+            dto.setIsSaved(savedIds.contains(dto.getId()));
+
+            Object[] applied = applicationStates.get(dto.getId());
+            dto.setIsApplied(applied != null);
+            if (applied != null) {
+                dto.setApplicationStatus(((AppliedJob.ApplicationStatus) applied[1]).name());
+                dto.setAppliedAt((LocalDateTime) applied[2]);
+            }
+        }
+    }
+}
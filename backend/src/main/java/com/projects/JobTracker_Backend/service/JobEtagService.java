@@ -0,0 +1,68 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobRepository;
+import com.projects.JobTracker_Backend.search.JobSearchIndex;
+import com.projects.JobTracker_Backend.search.SpellingIndex;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Strong ETags for job responses, computed without running the response's query, so a client
+ * revalidating its copy costs neither the query nor serialization.
+ *
+ * A listing is determined by the request, the catalog version of the tables it reads (with the
+ * keyword index, skill tag and spelling generations, which catch up shortly after) and the user's
+ * {@link UserStateVersions state version}. A job's detail is determined by its id and updatedAt,
+ * its skill tag generation and the user's state version. Tags are empty while a version is not
+ * known (before the first catalog poll, or for a job that does not exist or is inactive); such
+ * responses go out without one.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobEtagService {
+
+    private final CatalogVersionService catalogVersionService;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobSkillTaggingService jobSkillTaggingService;
+    private final SpellingIndex spellingIndex;
+    private final UserStateVersions userStateVersions;
+    private final JobRepository jobRepository;
+
+    /**
+     * Tag of a listing over the jobs of {@code types}. {@code request} identifies the response
+     * (path, query string and requested representation).
+     */
+    public Optional<String> forList(Collection<JobType> types, String request, UserPrincipal user) {
+        StringBuilder tag = new StringBuilder(request);
+        for (JobType type : types) {
+            long version = catalogVersionService.getVersion(type);
+            if (version == 0) {
+                return Optional.empty();
+            }
+            tag.append('|').append(type).append(':').append(version)
+                    .append(':').append(jobSearchIndex.getGeneration(type))
+                    .append(':').append(jobSkillTaggingService.getGeneration(type));
+        }
+        tag.append('|').append(spellingIndex.getGeneration());
+        return Optional.of(hash(tag, user));
+    }
+
+    /** Tag of the detail of a general job; one primary-key lookup of updated_at. */
+    public Optional<String> forJob(Long jobId, String request, UserPrincipal user) {
+        return jobRepository.findActiveUpdatedAtById(jobId).map(updatedAt -> hash(new StringBuilder(request)
+                .append('|').append(jobId).append(':').append(updatedAt)
+                .append(':').append(jobSkillTaggingService.getGeneration(JobType.GENERAL)), user));
+    }
+
+    private String hash(StringBuilder tag, UserPrincipal user) {
+        tag.append('|').append(user != null ? user.getId() + ":" + userStateVersions.get(user.getId()) : "-");
+        return DigestUtils.md5DigestAsHex(tag.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,194 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.FacetCountsDTO;
+import com.projects.JobTracker_Backend.dto.SalaryHistogramDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.search.Facet;
+import com.projects.JobTracker_Backend.search.FacetCounts;
+import com.projects.JobTracker_Backend.search.FacetIndex;
+import com.projects.JobTracker_Backend.search.SalaryHistogram;
+import com.projects.JobTracker_Backend.search.SalaryIndex;
+import com.projects.JobTracker_Backend.search.SearchHit;
+import com.projects.JobTracker_Backend.specification.JobSpecification;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Facet counts and salary histograms for the filter endpoints, served from the {@link FacetIndex}
+ * bitmaps and the {@link SalaryIndex}.
+ *
+ * Category, employment type, experience level, source, remote, company and location are answered by
+ * the bitmaps. Keywords come from the keyword index (or full-text search); salary, positions, skills,
+ * LIKE keywords and fuzzy locations are resolved by the database as one id-only query. Both become a
+ * restriction bitmap that the facet bitmaps are intersected with.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobFacetService {
+
+    private final FacetIndex facetIndex;
+    private final SalaryIndex salaryIndex;
+    private final JobSearchService jobSearchService;
+    private final JobCatalogRepository jobCatalogRepository;
+
+    /** Empty while the facet index for {@code type} is still loading. */
+    @Transactional(readOnly = true)
+    public Optional<FacetCountsDTO> getFacetCounts(
+            JobType type,
+            List<String> keywords,
+            List<String> categories,
+            List<String> locations,
+            List<String> employmentTypes,
+            List<String> experienceLevels,
+            Boolean isRemote,
+            Integer minSalary,
+            Integer maxSalary,
+            List<String> companies,
+            List<String> sources,
+            List<String> positions,
+            List<String> skills,
+            Double locationSimilarity,
+            int topN
+    ) {
+        RoaringBitmap restriction = findRestriction(type, keywords, locations, minSalary, maxSalary,
+                positions, skills, locationSimilarity);
+        Map<Facet, List<String>> selection = selection(categories, locations, employmentTypes, experienceLevels,
+                isRemote, companies, sources, locationSimilarity);
+        return facetIndex.count(type, selection, restriction, topN).map(JobFacetService::toDTO);
+    }
+
+    /**
+     * Salary histogram of the jobs matching the filter, from the in-memory {@link SalaryIndex}.
+     * The salary bounds themselves are not applied, so the histogram shows the range they select from.
+     * Empty while the facet or salary index for {@code type} is still loading.
+     */
+    @Transactional(readOnly = true)
+    public Optional<SalaryHistogramDTO> getSalaryHistogram(
+            JobType type,
+            List<String> keywords,
+            List<String> categories,
+            List<String> locations,
+            List<String> employmentTypes,
+            List<String> experienceLevels,
+            Boolean isRemote,
+            List<String> companies,
+            List<String> sources,
+            List<String> positions,
+            List<String> skills,
+            Double locationSimilarity,
+            int buckets
+    ) {
+        RoaringBitmap restriction = findRestriction(type, keywords, locations, null, null,
+                positions, skills, locationSimilarity);
+        Map<Facet, List<String>> selection = selection(categories, locations, employmentTypes, experienceLevels,
+                isRemote, companies, sources, locationSimilarity);
+        if (restriction == null && selection.values().stream().noneMatch(JobFacetService::isSet)) {
+            return salaryIndex.histogram(type, null, buckets).map(JobFacetService::toDTO);
+        }
+        return facetIndex.match(type, selection, restriction)
+                .flatMap(matching -> salaryIndex.histogram(type, matching, buckets))
+                .map(JobFacetService::toDTO);
+    }
+
+    // Jobs allowed by the filters the bitmaps cannot answer; null when there are none
+    private RoaringBitmap findRestriction(JobType type, List<String> keywords, List<String> locations,
+                                          Integer minSalary, Integer maxSalary, List<String> positions,
+                                          List<String> skills, Double locationSimilarity) {
+        boolean hasKeywords = keywords != null && !keywords.isEmpty();
+        boolean fuzzyLocations = isFuzzy(locations, locationSimilarity);
+
+        RoaringBitmap restriction = null;
+        List<String> databaseKeywords = null;
+        if (hasKeywords) {
+            Optional<List<SearchHit>> hits = jobSearchService.findHits(type, keywords);
+            if (hits.isPresent()) {
+                restriction = new RoaringBitmap();
+                for (SearchHit hit : hits.get()) {
+                    restriction.add(Math.toIntExact(hit.jobId()));
+                }
+            } else {
+                databaseKeywords = keywords;
+            }
+        }
+
+        if (databaseKeywords != null || fuzzyLocations || minSalary != null || maxSalary != null
+                || isSet(positions) || isSet(skills)) {
+            if (fuzzyLocations) {
+                jobCatalogRepository.setWordSimilarityThreshold(locationSimilarity);
+            }
+            RoaringBitmap matching = findIds(type, JobSpecification.filterJobs(
+                    databaseKeywords, null, fuzzyLocations ? locations : null, null, null,
+                    null, minSalary, maxSalary, null, null, positions, skills, fuzzyLocations));
+            restriction = restriction != null ? RoaringBitmap.and(restriction, matching) : matching;
+        }
+        return restriction;
+    }
+
+    private static Map<Facet, List<String>> selection(List<String> categories, List<String> locations,
+                                                      List<String> employmentTypes, List<String> experienceLevels,
+                                                      Boolean isRemote, List<String> companies,
+                                                      List<String> sources, Double locationSimilarity) {
+        Map<Facet, List<String>> selection = new EnumMap<>(Facet.class);
+        selection.put(Facet.JOB_CATEGORY, categories);
+        selection.put(Facet.EMPLOYMENT_TYPE, employmentTypes);
+        selection.put(Facet.EXPERIENCE_LEVEL, experienceLevels);
+        selection.put(Facet.SOURCE, sources);
+        selection.put(Facet.IS_REMOTE, isRemote != null ? List.of(isRemote.toString()) : null);
+        selection.put(Facet.COMPANY, companies);
+        // Fuzzy locations are already part of the restriction
+        selection.put(Facet.LOCATION, isFuzzy(locations, locationSimilarity) ? null : locations);
+        return selection;
+    }
+
+    private <T> RoaringBitmap findIds(JobType type, Specification<T> spec) {
+        @SuppressWarnings("unchecked")
+        Class<T> entityClass = (Class<T>) type.getEntityClass();
+        RoaringBitmap ids = new RoaringBitmap();
+        for (Long id : jobCatalogRepository.findIds(entityClass, spec)) {
+            ids.add(Math.toIntExact(id));
+        }
+        return ids;
+    }
+
+    private static FacetCountsDTO toDTO(FacetCounts facets) {
+        Map<Facet, Map<String, Long>> counts = facets.counts();
+        return FacetCountsDTO.builder()
+                .total(facets.total())
+                .jobCategory(counts.get(Facet.JOB_CATEGORY))
+                .employmentType(counts.get(Facet.EMPLOYMENT_TYPE))
+                .experienceLevel(counts.get(Facet.EXPERIENCE_LEVEL))
+                .source(counts.get(Facet.SOURCE))
+                .isRemote(counts.get(Facet.IS_REMOTE))
+                .companies(counts.get(Facet.COMPANY))
+                .locations(counts.get(Facet.LOCATION))
+                .build();
+    }
+
+    private static SalaryHistogramDTO toDTO(SalaryHistogram histogram) {
+        return SalaryHistogramDTO.builder()
+                .total(histogram.total())
+                .unknown(histogram.unknown())
+                .bucketSize(histogram.bucketSize())
+                .buckets(histogram.buckets().stream()
+                        .map(bucket -> new SalaryHistogramDTO.Bucket(bucket.from(), bucket.to(), bucket.count()))
+                        .toList())
+                .build();
+    }
+
+    private static boolean isFuzzy(List<String> locations, Double locationSimilarity) {
+        return locationSimilarity != null && isSet(locations);
+    }
+
+    private static boolean isSet(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+}
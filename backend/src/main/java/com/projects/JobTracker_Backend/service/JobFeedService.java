@@ -0,0 +1,82 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.CursorPageDTO;
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.dto.JobSummaryDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
+import com.projects.JobTracker_Backend.specification.JobSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Keyset (cursor) pagination of the job feeds, next to their offset pagination.
+ *
+ * A page is the next {@code size} jobs after the cursor's (postedAt, id), so the database seeks on
+ * idx_<table>_active_posted_id and the 500th page costs what the first does, and jobs ingested
+ * mid-scroll never make a page repeat or skip a job. Only postedAt order is supported.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobFeedService {
+
+    private final JobSearchService jobSearchService;
+    private final JobEnrichmentService jobEnrichmentService;
+    private final CatalogVersionService catalogVersionService;
+    private final JobCatalogRepository jobCatalogRepository;
+
+    /**
+     * The page after {@code cursor} (the first page when blank) of the active jobs of {@code type}
+     * matching {@code keywords} (may be null) and {@code filters}, which must include "active" when
+     * there are no keywords. {@code sort} and {@code direction} only apply to the first page; later
+     * pages keep the cursor's.
+     */
+    public <T> CursorPageDTO<JobDTO> page(
+            JobType type, List<String> keywords, Specification<T> filters,
+            String cursor, int size, String sort, Sort.Direction direction, UserPrincipal user) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        JobCursor after = cursor.isBlank() ? null : JobCursor.decode(cursor);
+        if (after == null && !JobCursor.SORT_PROPERTY.equals(sort)) {
+            throw new IllegalArgumentException("Cursor pagination only supports sort=" + JobCursor.SORT_PROPERTY);
+        }
+        Sort.Direction order = after != null ? after.direction() : direction;
+        long currentVersion = catalogVersionService.getVersion(type);
+        long scrollVersion = after != null ? after.catalogVersion() : currentVersion;
+
+        // One extra job tells whether there is a next page, without counting
+        List<JobSummaryDTO> jobs;
+        if (keywords != null && !keywords.isEmpty()) {
+            jobs = jobSearchService.searchAfter(type, keywords, filters, after, order, size + 1);
+        } else {
+            Specification<T> spec = after != null
+                    ? filters.and(JobSpecification.after(after.postedAt(), after.id(), order.isAscending()))
+                    : filters;
+            Sort seekOrder = Sort.by(order, JobCursor.SORT_PROPERTY).and(Sort.by(order, "id"));
+            @SuppressWarnings("unchecked")
+            Class<T> entityClass = (Class<T>) type.getEntityClass();
+            jobs = jobCatalogRepository.findSummaries(entityClass, spec, seekOrder, 0, size + 1);
+        }
+
+        String nextCursor = null;
+        if (jobs.size() > size) {
+            jobs = jobs.subList(0, size);
+            JobSummaryDTO last = jobs.get(size - 1);
+            nextCursor = new JobCursor(last.getPostedAt(), last.getId(), order, scrollVersion).encode();
+        }
+
+        return CursorPageDTO.<JobDTO>builder()
+                .content(jobEnrichmentService.enrichJobsWithUserData(jobs, user))
+                .nextCursor(nextCursor)
+                .size(size)
+                .catalogVersion(scrollVersion)
+                .catalogChanged(scrollVersion != currentVersion)
+                .build();
+    }
+}
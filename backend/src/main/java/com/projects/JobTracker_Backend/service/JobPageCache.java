@@ -0,0 +1,143 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.model.BaseJob;
+import com.projects.JobTracker_Backend.search.JobSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of listing pages, without any user state.
+ *
+ * Every user asking for the same filter, sort and page gets the same jobs, so the page is computed
+ * once and kept as base DTOs; callers overlay the current user's saved / applied / followed flags
+ * on a copy. Entries are keyed by the table's catalog version (and the keyword index and skill tag
+ * generations, which catch up shortly after), so ingestion makes them unreachable as soon as it is
+ * detected; they are also dropped eagerly on
+ * {@link CatalogChangedEvent}. Memory is bounded by estimated heap.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobPageCache {
+
+    private final CatalogVersionService catalogVersionService;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobSkillTaggingService jobSkillTaggingService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jobs.page-cache.max-heap-bytes:67108864}")
+    private long maxHeapBytes;
+
+    private Cache<VersionedKey, CachedPage> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxHeapBytes)
+                .weigher((VersionedKey key, CachedPage page) -> page.estimatedHeapBytes())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobPages");
+    }
+
+    /**
+     * The page for {@code key}, loading it with {@code loader} on a miss. Returns fresh DTO copies
+     * that the caller may enrich with user data. Not cached until the catalog version is known.
+     */
+    public Page<JobDTO> get(JobPageKey key, Pageable pageable, Supplier<Page<? extends BaseJob>> loader) {
+        return cached(key, loader).toPage(pageable);
+    }
+
+    /**
+     * As {@link #get}, for loaders that may skip the count. The result is a {@code Page} when the loaded
+     * slice was one.
+     */
+    public Slice<JobDTO> getSlice(JobPageKey key, Pageable pageable, Supplier<? extends Slice<? extends BaseJob>> loader) {
+        return cached(key, loader).toSlice(pageable);
+    }
+
+    private CachedPage cached(JobPageKey key, Supplier<? extends Slice<? extends BaseJob>> loader) {
+        long version = catalogVersionService.getVersion(key.type());
+        if (version == 0) {
+            return load(loader);
+        }
+        VersionedKey versioned = new VersionedKey(key, version, jobSearchIndex.getGeneration(key.type()),
+                jobSkillTaggingService.getGeneration(key.type()));
+        return cache.get(versioned, k -> load(loader));
+    }
+
+    private CachedPage load(Supplier<? extends Slice<? extends BaseJob>> loader) {
+        CachedPage page = CachedPage.of(loader.get());
+        jobSkillTaggingService.attachSkills(page.content());
+        return page;
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        cache.asMap().keySet().removeIf(key -> event.changedTypes().contains(key.key().type()));
+    }
+
+    private record VersionedKey(JobPageKey key, long catalogVersion, long indexGeneration, long skillGeneration) {
+    }
+
+    // totalElements is -1 for slices loaded without a count
+    private record CachedPage(List<JobDTO> content, long totalElements, boolean hasNext) {
+
+        static CachedPage of(Slice<? extends BaseJob> jobs) {
+            List<JobDTO> content = new ArrayList<>(jobs.getNumberOfElements());
+            for (BaseJob job : jobs.getContent()) {
+                JobDTO dto = JobDTO.fromEntity(job);
+                if (dto != null) content.add(dto);
+            }
+            long totalElements = jobs instanceof Page<?> page ? page.getTotalElements() : -1;
+            return new CachedPage(List.copyOf(content), totalElements, jobs.hasNext());
+        }
+
+        Page<JobDTO> toPage(Pageable pageable) {
+            return new PageImpl<>(copies(), pageable, totalElements);
+        }
+
+        Slice<JobDTO> toSlice(Pageable pageable) {
+            return totalElements >= 0 ? toPage(pageable) : new SliceImpl<>(copies(), pageable, hasNext);
+        }
+
+        // Cached DTOs are shared; every caller gets its own copies to overlay user state on
+        private List<JobDTO> copies() {
+            List<JobDTO> copies = new ArrayList<>(content.size());
+            for (JobDTO dto : content) {
+                copies.add(dto.toBuilder().build());
+            }
+            return copies;
+        }
+
+        int estimatedHeapBytes() {
+            long bytes = 64;
+            for (JobDTO dto : content) {
+                // Fixed fields plus the strings, 2 bytes per char at worst
+                bytes += 512 + 2L * (length(dto.getDescription()) + length(dto.getDescriptionSnippet()) + length(dto.getTitle())
+                        + length(dto.getCompany()) + length(dto.getLocation()) + length(dto.getApplyUrl()));
+            }
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+}
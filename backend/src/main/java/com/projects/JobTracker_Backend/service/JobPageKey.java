@@ -0,0 +1,74 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Canonical description of one listing page, used as the key of {@link JobPageCache}.
+ *
+ * Filter lists are OR'ed and matched case-insensitively, so they are trimmed, lowercased,
+ * de-duplicated and sorted: "Pune, bangalore" and "Bangalore,pune" share an entry.
+ */
+public record JobPageKey(JobType type, String query) {
+
+    public static Builder of(JobType type, String operation) {
+        return new Builder(type, operation);
+    }
+
+    public static final class Builder {
+        private final JobType type;
+        private final StringBuilder query = new StringBuilder();
+
+        private Builder(JobType type, String operation) {
+            this.type = type;
+            query.append(operation);
+        }
+
+        public Builder list(String name, List<?> values) {
+            if (values == null || values.isEmpty()) return this;
+            TreeSet<String> canonical = new TreeSet<>();
+            for (Object value : values) {
+                String text = Objects.toString(value, "").trim().toLowerCase(Locale.ROOT);
+                if (!text.isEmpty()) canonical.add(text);
+            }
+            if (canonical.isEmpty()) return this;
+            // Length-prefixed so that values containing separators cannot collide
+            query.append('&').append(name).append('=');
+            for (String value : canonical) {
+                query.append(value.length()).append(':').append(value);
+            }
+            return this;
+        }
+
+        public Builder value(String name, Object value) {
+            if (value != null) {
+                query.append('&').append(name).append('=').append(value);
+            }
+            return this;
+        }
+
+        public JobPageKey page(Pageable pageable) {
+            return paged("page", pageable);
+        }
+
+        /** Key of the same page fetched without a count, cached apart from the counted one. */
+        public JobPageKey slice(Pageable pageable) {
+            return paged("slice", pageable);
+        }
+
+        /** Key of the filters alone, shared by every page, size and sort; used for cached counts. */
+        public JobPageKey shape() {
+            return new JobPageKey(type, query.toString());
+        }
+
+        private JobPageKey paged(String mode, Pageable pageable) {
+            return new JobPageKey(type, query + "&" + mode + "=" + pageable.getPageNumber()
+                    + "&size=" + pageable.getPageSize() + "&sort=" + pageable.getSort());
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.JobSummaryDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.search.JobSearchIndex;
+import com.projects.JobTracker_Backend.search.SearchHit;
+import com.projects.JobTracker_Backend.specification.JobSpecification;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Keyword search over one job table.
+ *
+ * Keywords are resolved to scored job ids by the in-memory {@link JobSearchIndex} (BM25,
+ * search.keyword-mode=index) or by PostgreSQL full-text search (ts_rank, search.keyword-mode=fulltext);
+ * any other filters are applied by the database as an id-only query, and only the summaries of the
+ * requested page of jobs are loaded. Results can be ordered by relevance or postedAt. Other sort properties, tables
+ * the index has not loaded yet, and search.keyword-mode=like use the LIKE-based {@link JobSpecification}.
+ *
+ * Full-text pages are ordered, paged and counted by the database, restricted to the ids the filters
+ * allow. Tables without the search_vector column are detected once at startup and use LIKE instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchService {
+
+    /** Sort property that orders keyword results by relevance score. */
+    public static final String RELEVANCE = "relevance";
+
+    private static final Comparator<SearchHit> BY_POSTED_AT = Comparator
+            .comparingLong(SearchHit::postedAtMillis)
+            .thenComparingLong(SearchHit::jobId);
+    private static final Comparator<SearchHit> BY_RELEVANCE = Comparator
+            .comparingDouble((SearchHit hit) -> hit.score()).reversed()
+            .thenComparing(BY_POSTED_AT.reversed());
+
+    private final JobSearchIndex jobSearchIndex;
+    private final JobCatalogRepository jobCatalogRepository;
+
+    // Tables with the search_vector column, found when the application is ready
+    private volatile Set<JobType> fullTextTables = EnumSet.noneOf(JobType.class);
+
+    @Value("${search.keyword-mode:index}")
+    private String keywordMode;
+
+    // Above this many keyword hits the filters are resolved on their own and intersected in memory
+    @Value("${search.index.max-id-filter:5000}")
+    private int maxIdFilter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!"fulltext".equalsIgnoreCase(keywordMode)) {
+            return;
+        }
+        Set<JobType> tables = EnumSet.noneOf(JobType.class);
+        for (JobType type : JobType.values()) {
+            if (jobCatalogRepository.hasSearchVector(type)) {
+                tables.add(type);
+            } else {
+                log.warn("{} has no search_vector column, keyword search on it falls back to LIKE"
+                        + " (run scripts/setup_job_search_fts.js)", type.getTableName());
+            }
+        }
+        fullTextTables = tables;
+    }
+
+    /**
+     * Summaries of the active jobs of {@code type} matching any of {@code keywords} and, when non-null,
+     * {@code filters} (which must not contain keywords itself).
+     */
+    public <T> Page<JobSummaryDTO> search(
+            JobType type, List<String> keywords, Specification<T> filters, Pageable pageable) {
+        Optional<FullTextScope> fullText = fullTextScope(type, keywords, filters, pageable.getSort());
+        if (fullText.isPresent()) {
+            FullTextScope scope = fullText.get();
+            List<JobSummaryDTO> content = loadInOrder(type, toHits(jobCatalogRepository.findFullTextPage(
+                    type, scope.query(), scope.ids(), scope.order(), pageable.getOffset(), pageable.getPageSize())));
+            return PageableExecutionUtils.getPage(content, pageable,
+                    () -> jobCatalogRepository.countFullTextMatches(type, scope.query(), scope.ids()));
+        }
+
+        Class<T> entityClass = entityClass(type);
+        return searchHits(type, keywords, filters, pageable).orElseGet(() -> jobCatalogRepository.findSummaryPage(
+                entityClass, likeSpec(keywords, filters), databasePageable(pageable)));
+    }
+
+    /**
+     * As {@link #search}, without a count query. Results from index hits still come as a
+     * {@code Page}, since their total is known anyway.
+     */
+    public <T> Slice<JobSummaryDTO> searchSlice(
+            JobType type, List<String> keywords, Specification<T> filters, Pageable pageable) {
+        Optional<FullTextScope> fullText = fullTextScope(type, keywords, filters, pageable.getSort());
+        if (fullText.isPresent()) {
+            FullTextScope scope = fullText.get();
+            List<SearchHit> hits = toHits(jobCatalogRepository.findFullTextPage(
+                    type, scope.query(), scope.ids(), scope.order(), pageable.getOffset(), pageable.getPageSize() + 1));
+            boolean hasNext = hits.size() > pageable.getPageSize();
+            return new SliceImpl<>(loadInOrder(type, hasNext ? hits.subList(0, pageable.getPageSize()) : hits),
+                    pageable, hasNext);
+        }
+
+        Optional<Page<JobSummaryDTO>> page = searchHits(type, keywords, filters, pageable);
+        if (page.isPresent()) {
+            return page.get();
+        }
+        Class<T> entityClass = entityClass(type);
+        return jobCatalogRepository.findSummarySlice(entityClass, likeSpec(keywords, filters), databasePageable(pageable));
+    }
+
+    /** Number of jobs {@link #search} finds, for approximate totals. */
+    public <T> long count(JobType type, List<String> keywords, Specification<T> filters) {
+        Optional<FullTextScope> fullText = fullTextScope(type, keywords, filters, Sort.unsorted());
+        if (fullText.isPresent()) {
+            return jobCatalogRepository.countFullTextMatches(type, fullText.get().query(), fullText.get().ids());
+        }
+
+        Class<T> entityClass = entityClass(type);
+        Optional<List<SearchHit>> found = findHits(type, keywords);
+        if (found.isEmpty()) {
+            return jobCatalogRepository.count(entityClass, likeSpec(keywords, filters));
+        }
+        List<SearchHit> hits = found.get();
+        if (filters != null && !hits.isEmpty()) {
+            hits = restrict(entityClass, hits, filters);
+        }
+        return hits.size();
+    }
+
+    // Empty when the keyword mode or the sort needs the LIKE fallback
+    private <T> Optional<Page<JobSummaryDTO>> searchHits(
+            JobType type, List<String> keywords, Specification<T> filters, Pageable pageable) {
+        Comparator<SearchHit> order = inMemoryOrder(pageable.getSort());
+        Optional<List<SearchHit>> found = order != null ? findHits(type, keywords) : Optional.empty();
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<SearchHit> hits = found.get();
+        if (filters != null && !hits.isEmpty()) {
+            Class<T> entityClass = entityClass(type);
+            hits = restrict(entityClass, hits, filters);
+        }
+        hits.sort(order);
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return Optional.of(new PageImpl<>(loadInOrder(type, hits.subList(from, to)), pageable, hits.size()));
+    }
+
+    /**
+     * Up to {@code limit} summaries of the active jobs of {@code type} matching any of {@code keywords}
+     * and, when non-null, {@code filters}, in postedAt, id order after {@code after} (from the start when
+     * null), for keyset pagination. Keyword hits are seeked in memory; without the index, the database
+     * seeks instead.
+     */
+    public <T> List<JobSummaryDTO> searchAfter(
+            JobType type, List<String> keywords, Specification<T> filters,
+            JobCursor after, Sort.Direction direction, int limit) {
+        Optional<FullTextScope> fullText = fullTextScope(type, keywords, filters, Sort.by(direction, "postedAt"));
+        if (fullText.isPresent()) {
+            FullTextScope scope = fullText.get();
+            return loadInOrder(type, toHits(jobCatalogRepository.findFullTextAfter(
+                    type, scope.query(), scope.ids(), direction.isAscending(),
+                    after != null ? after.postedAt() : null, after != null ? after.id() : null, limit)));
+        }
+
+        Class<T> entityClass = entityClass(type);
+        Optional<List<SearchHit>> found = findHits(type, keywords);
+        if (found.isEmpty()) {
+            Specification<T> spec = likeSpec(keywords, filters);
+            if (after != null) spec = spec.and(JobSpecification.after(after.postedAt(), after.id(), direction.isAscending()));
+            Sort sort = Sort.by(direction, JobCursor.SORT_PROPERTY).and(Sort.by(direction, "id"));
+            return jobCatalogRepository.findSummaries(entityClass, spec, sort, 0, limit);
+        }
+
+        List<SearchHit> hits = found.get();
+        if (filters != null && !hits.isEmpty()) {
+            hits = restrict(entityClass, hits, filters);
+        }
+        Comparator<SearchHit> order = direction.isAscending() ? BY_POSTED_AT : BY_POSTED_AT.reversed();
+        if (after != null) {
+            SearchHit position = new SearchHit(after.id(), 0f, SearchHit.toMillis(after.postedAt()));
+            hits = hits.stream().filter(hit -> order.compare(hit, position) > 0).toList();
+        }
+        List<SearchHit> page = hits.stream().sorted(order).limit(limit).toList();
+        return loadInOrder(type, page);
+    }
+
+    // The summaries of the hits, in hit order; jobs deleted since the hits were found are skipped
+    private List<JobSummaryDTO> loadInOrder(JobType type, List<SearchHit> hits) {
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ids.add(hit.jobId());
+        }
+
+        Map<Long, JobSummaryDTO> jobsById = new HashMap<>();
+        for (JobSummaryDTO job : jobCatalogRepository.findSummariesByIds(type.getEntityClass(), ids)) {
+            jobsById.put(job.getId(), job);
+        }
+        List<JobSummaryDTO> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobSummaryDTO job = jobsById.get(id);
+            if (job != null) content.add(job);
+        }
+        return content;
+    }
+
+    /**
+     * Every active job of {@code type} matching any of {@code keywords}, unordered, from the configured
+     * keyword mode; empty when that mode cannot serve the search and the caller should use LIKE.
+     */
+    public Optional<List<SearchHit>> findHits(JobType type, List<String> keywords) {
+        if ("index".equalsIgnoreCase(keywordMode)) {
+            return jobSearchIndex.search(type, keywords);
+        }
+        if (isFullText(type)) {
+            return Optional.of(toHits(jobCatalogRepository.findFullTextMatches(type, websearchQuery(keywords))));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Where full-text search can answer a search on its own: the tsquery, the ids the filters allow (null
+     * without filters) and the order. Empty outside fulltext mode, for tables without search_vector, for
+     * sorts other than relevance and postedAt, and when the filters allow more than search.index.max-id-filter
+     * jobs; the caller then uses the whole match set or LIKE.
+     */
+    private <T> Optional<FullTextScope> fullTextScope(
+            JobType type, List<String> keywords, Specification<T> filters, Sort sort) {
+        if (!isFullText(type)) {
+            return Optional.empty();
+        }
+        Sort.Order order = sort.isSorted() ? sort.iterator().next() : null;
+        JobCatalogRepository.FullTextOrder fullTextOrder;
+        if (order == null || RELEVANCE.equals(order.getProperty())) {
+            fullTextOrder = JobCatalogRepository.FullTextOrder.RELEVANCE;
+        } else if ("postedAt".equals(order.getProperty())) {
+            fullTextOrder = order.isAscending()
+                    ? JobCatalogRepository.FullTextOrder.OLDEST
+                    : JobCatalogRepository.FullTextOrder.NEWEST;
+        } else {
+            return Optional.empty();
+        }
+
+        List<Long> ids = null;
+        if (filters != null) {
+            Class<T> entityClass = entityClass(type);
+            ids = jobCatalogRepository.findIds(entityClass, filters, maxIdFilter + 1);
+            if (ids.size() > maxIdFilter) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new FullTextScope(websearchQuery(keywords), ids, fullTextOrder));
+    }
+
+    private boolean isFullText(JobType type) {
+        return "fulltext".equalsIgnoreCase(keywordMode) && fullTextTables.contains(type);
+    }
+
+    private record FullTextScope(String query, List<Long> ids, JobCatalogRepository.FullTextOrder order) {
+    }
+
+    /**
+     * Each keyword is a websearch_to_tsquery expression, so phrases ("\"data engineer\"") and
+     * negation ("backend -php") work within a keyword; keywords are OR'ed like everywhere else.
+     */
+    private static String websearchQuery(List<String> keywords) {
+        return String.join(" or ", keywords);
+    }
+
+    // Rows of the full-text queries: id, ts_rank, posted_at
+    private static List<SearchHit> toHits(List<Object[]> rows) {
+        List<SearchHit> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            hits.add(new SearchHit(
+                    NativeResults.toLong(row[0]),
+                    ((Number) row[1]).floatValue(),
+                    SearchHit.toMillis(row[2] != null ? NativeResults.toLocalDateTime(row[2]) : null)));
+        }
+        return hits;
+    }
+
+    // Keeps the hits that also satisfy the filters; both sides are id-only
+    private <T> List<SearchHit> restrict(Class<T> entityClass, List<SearchHit> hits, Specification<T> filters) {
+        Specification<T> spec = filters;
+        if (hits.size() <= maxIdFilter) {
+            List<Long> hitIds = new ArrayList<>(hits.size());
+            for (SearchHit hit : hits) {
+                hitIds.add(hit.jobId());
+            }
+            spec = filters.and((root, query, cb) -> root.get("id").in(hitIds));
+        }
+
+        Set<Long> allowed = new HashSet<>(jobCatalogRepository.findIds(entityClass, spec));
+        List<SearchHit> restricted = new ArrayList<>(Math.min(hits.size(), allowed.size()));
+        for (SearchHit hit : hits) {
+            if (allowed.contains(hit.jobId())) restricted.add(hit);
+        }
+        return restricted;
+    }
+
+    private static <T> Specification<T> likeSpec(List<String> keywords, Specification<T> filters) {
+        Specification<T> spec = JobSpecification.matchesKeywords(keywords);
+        return filters != null ? spec.and(filters) : spec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> entityClass(JobType type) {
+        return (Class<T>) type.getEntityClass();
+    }
+
+    private static Comparator<SearchHit> inMemoryOrder(Sort sort) {
+        Sort.Order order = sort.isSorted() ? sort.iterator().next() : null;
+        if (order == null || RELEVANCE.equals(order.getProperty())) {
+            return BY_RELEVANCE;
+        }
+        if ("postedAt".equals(order.getProperty())) {
+            return order.isAscending() ? BY_POSTED_AT : BY_POSTED_AT.reversed();
+        }
+        return null;
+    }
+
+    // The database has no relevance score; fall back to newest first
+    private static Pageable databasePageable(Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor(RELEVANCE);
+        if (order == null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "postedAt"));
+    }
+}
@@ -1,13 +1,22 @@
 package com.projects.JobTracker_Backend.service;
 
 import com.projects.JobTracker_Backend.dto.*;
+import com.projects.JobTracker_Backend.enums.ExportFormat;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.enums.PageTotal;
 import com.projects.JobTracker_Backend.model.*;
 import com.projects.JobTracker_Backend.repository.AppliedJobRepository;
 import com.projects.JobTracker_Backend.repository.FulltimeJobsRepository;
 import com.projects.JobTracker_Backend.repository.InternJobRepository;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
 import com.projects.JobTracker_Backend.repository.JobRepository;
 import com.projects.JobTracker_Backend.repository.SavedJobRepository;
+import com.projects.JobTracker_Backend.search.SpellingCorrection;
+import com.projects.JobTracker_Backend.search.SpellingIndex;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
+import com.projects.JobTracker_Backend.specification.JobFilter;
 import com.projects.JobTracker_Backend.specification.JobSpecification;
+import com.projects.JobTracker_Backend.util.NativeResults;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -16,11 +25,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.hibernate.Hibernate;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -34,19 +45,25 @@ public class JobService {
     private final FulltimeJobsRepository fulltimeJobsRepository;
     private final SavedJobRepository savedJobRepository;
     private final AppliedJobRepository appliedJobRepository;
-    private final PreferenceService preferenceService;
+    private final JobEnrichmentService jobEnrichmentService;
+    private final JobSearchService jobSearchService;
+    private final JobPageCache jobPageCache;
+    private final JobFeedService jobFeedService;
+    private final JobCountCache jobCountCache;
+    private final CatalogVersionService catalogVersionService;
+    private final SpellingIndex spellingIndex;
+    private final JobCatalogRepository jobCatalogRepository;
+    private final UserInteractionIndex userInteractionIndex;
+    private final UserJobListService userJobListService;
+    private final UserStatsService userStatsService;
 
     // ================== PUBLIC ENDPOINTS ==================
 
     public Page<JobDTO> getFeaturedJobs(Job.JobCategory category, int size) {
         Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "postedAt"));
-        Page<Job> jobs;
-
-        if (category != null) {
-            jobs = jobRepository.findByJobCategoryAndIsActiveTrue(category, pageable);
-        } else {
-            jobs = jobRepository.findByIsActiveTrue(pageable);
-        }
+        Page<JobSummaryDTO> jobs = jobCatalogRepository.findSummaryPage(Job.class, JobSpecification.filterJobs(
+                null, category != null ? List.of(category) : null, null, null, null, null, null, null, null, null, null, null),
+                pageable);
 
         return jobs.map(JobDTO::fromEntity);
     }
@@ -82,8 +99,11 @@ public class JobService {
     public Map<String, Long> getEmploymentTypeCounts() {
         Map<String, Long> counts = new LinkedHashMap<>();
 
-        long activeInterns = internJobRepository.countActiveJobs();
-        long activeFulltime = fulltimeJobsRepository.countActiveJobs();
+        // Active counts from the last catalog poll, so this public endpoint never counts the tables
+        long activeInterns = catalogVersionService.getActiveCount(JobType.INTERN)
+                .orElseGet(internJobRepository::countActiveJobs);
+        long activeFulltime = catalogVersionService.getActiveCount(JobType.FULLTIME)
+                .orElseGet(fulltimeJobsRepository::countActiveJobs);
 
         counts.put("ALL", activeInterns + activeFulltime);
         counts.put("INTERNSHIP", activeInterns);
@@ -94,17 +114,30 @@ public class JobService {
 
     // ================== PROTECTED ENDPOINTS - JOB BROWSING ==================
 
-    public Page<JobDTO> getAllJobs(Pageable pageable, User user) {
-        Page<Job> jobs = jobRepository.findByIsActiveTrue(pageable);
-        return enrichJobsWithUserData(jobs, user);
+    public Page<JobDTO> getAllJobs(Pageable pageable, UserPrincipal user) {
+        Page<JobDTO> jobs = jobPageCache.get(JobPageKey.of(JobType.GENERAL, "all").page(pageable), pageable,
+                () -> jobCatalogRepository.findSummaryPage(Job.class, JobSpecification.filterJobs(
+                        null, null, null, null, null, null, null, null, null, null, null, null), pageable));
+        return jobEnrichmentService.applyUserData(jobs, user);
+    }
+
+    /** As getAllJobs, with the total reported as requested; uncounted modes go through filterJobs. */
+    public Slice<JobDTO> getAllJobs(Pageable pageable, PageTotal total, UserPrincipal user) {
+        if (total == PageTotal.EXACT) {
+            return getAllJobs(pageable, user);
+        }
+        return filterJobs(JobFilter.NONE, pageable, total, user);
     }
 
-    public Page<JobDTO> getJobsByCategory(Job.JobCategory category, Pageable pageable, User user) {
-        Page<Job> jobs = jobRepository.findByJobCategoryAndIsActiveTrue(category, pageable);
-        return enrichJobsWithUserData(jobs, user);
+    public Page<JobDTO> getJobsByCategory(Job.JobCategory category, Pageable pageable, UserPrincipal user) {
+        JobPageKey key = JobPageKey.of(JobType.GENERAL, "category").value("category", category).page(pageable);
+        Page<JobDTO> jobs = jobPageCache.get(key, pageable,
+                () -> jobCatalogRepository.findSummaryPage(Job.class, JobSpecification.filterJobs(
+                        null, List.of(category), null, null, null, null, null, null, null, null, null, null), pageable));
+        return jobEnrichmentService.applyUserData(jobs, user);
     }
 
-    public JobDTO getJobById(Long jobId, User user) {
+    public JobDTO getJobById(Long jobId, UserPrincipal user) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
 
@@ -112,12 +145,16 @@ public class JobService {
             throw new RuntimeException("Job is not active");
         }
 
-        return enrichJobWithUserData(job, user);
+        return jobEnrichmentService.enrichJobWithUserData(job, user);
     }
 
-    public Page<JobDTO> searchJobs(List<String> keywords, Pageable pageable, User user) {
+    /**
+     * Keywords are spell-corrected first ("developper" -> "developer"); the corrections applied are
+     * returned with the page.
+     */
+    public KeywordSearchResult searchJobs(List<String> keywords, Pageable pageable, UserPrincipal user) {
         if (keywords == null || keywords.isEmpty()) {
-            return getAllJobs(pageable, user);
+            return new KeywordSearchResult(getAllJobs(pageable, user), Map.of());
         }
 
         List<String> cleanedKeywords = keywords.stream()
@@ -126,21 +163,22 @@ public class JobService {
                 .collect(Collectors.toList());
 
         if (cleanedKeywords.isEmpty()) {
-            return getAllJobs(pageable, user);
+            return new KeywordSearchResult(getAllJobs(pageable, user), Map.of());
         }
 
-        Specification<Job> spec = JobSpecification.filterJobs(
-                cleanedKeywords, null, null, null, null, null, null, null, null, null, null, null
-        );
+        SpellingCorrection correction = spellingIndex.correct(JobType.GENERAL, cleanedKeywords);
+        List<String> searchKeywords = correction.keywords();
 
-        Page<Job> jobs = jobRepository.findAll(spec, pageable);
-        return enrichJobsWithUserData(jobs, user);
+        JobPageKey key = JobPageKey.of(JobType.GENERAL, "search").list("keywords", searchKeywords).page(pageable);
+        Page<JobDTO> jobs = jobPageCache.get(key, pageable,
+                () -> jobSearchService.search(JobType.GENERAL, searchKeywords, null, pageable));
+        return new KeywordSearchResult(jobEnrichmentService.applyUserData(jobs, user), correction.corrections());
     }
 
-    public Page<JobDTO> searchJobsByCategory(List<String> keywords, Job.JobCategory category,
-                                             Pageable pageable, User user) {
+    public KeywordSearchResult searchJobsByCategory(List<String> keywords, Job.JobCategory category,
+                                                    Pageable pageable, UserPrincipal user) {
         if (keywords == null || keywords.isEmpty()) {
-            return getJobsByCategory(category, pageable, user);
+            return new KeywordSearchResult(getJobsByCategory(category, pageable, user), Map.of());
         }
 
         List<String> cleanedKeywords = keywords.stream()
@@ -149,40 +187,104 @@ public class JobService {
                 .collect(Collectors.toList());
 
         if (cleanedKeywords.isEmpty()) {
-            return getJobsByCategory(category, pageable, user);
+            return new KeywordSearchResult(getJobsByCategory(category, pageable, user), Map.of());
         }
 
-        Specification<Job> spec = JobSpecification.filterJobs(
-                cleanedKeywords, List.of(category), null, null, null, null, null, null, null, null, null, null
+        SpellingCorrection correction = spellingIndex.correct(JobType.GENERAL, cleanedKeywords);
+        List<String> searchKeywords = correction.keywords();
+
+        Specification<Job> filters = JobSpecification.filterJobs(
+                null, List.of(category), null, null, null, null, null, null, null, null, null, null
         );
 
-        Page<Job> jobs = jobRepository.findAll(spec, pageable);
-        return enrichJobsWithUserData(jobs, user);
+        JobPageKey key = JobPageKey.of(JobType.GENERAL, "search")
+                .list("keywords", searchKeywords).value("category", category).page(pageable);
+        Page<JobDTO> jobs = jobPageCache.get(key, pageable,
+                () -> jobSearchService.search(JobType.GENERAL, searchKeywords, filters, pageable));
+        return new KeywordSearchResult(jobEnrichmentService.applyUserData(jobs, user), correction.corrections());
     }
 
-    public Page<JobDTO> filterJobs(
-            List<String> keywords,
-            List<Job.JobCategory> categories,
-            List<String> locations,
-            List<Job.EmploymentType> employmentTypes,
-            List<Job.ExperienceLevel> experienceLevels,
-            Boolean isRemote,
-            Integer minSalary,
-            Integer maxSalary,
-            List<String> companies,
-            List<Job.Source> sources,
-            List<String> positions,
-            List<String> skills,
-            Pageable pageable,
-            User user
-    ) {
-        Specification<Job> spec = JobSpecification.filterJobs(
-                keywords, categories, locations, employmentTypes, experienceLevels,
-                isRemote, minSalary, maxSalary, companies, sources, positions, skills
-        );
+    @Transactional(readOnly = true)
+    public Slice<JobDTO> filterJobs(JobFilter filter, Pageable pageable, PageTotal total, UserPrincipal user) {
+        return filterJobs(JobType.GENERAL, filter, pageable, total, user);
+    }
 
-        Page<Job> jobs = jobRepository.findAll(spec, pageable);
-        return enrichJobsWithUserData(jobs, user);
+    /**
+     * Keyset-paginated variant of filterJobs: the page after {@code cursor} (blank for the first),
+     * see {@link JobFeedService}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<JobDTO> filterJobsAfter(JobFilter filter, String cursor, int size, String sort,
+                                                 Sort.Direction direction, UserPrincipal user) {
+        return filterJobsAfter(JobType.GENERAL, filter, cursor, size, sort, direction, user);
+    }
+
+    // ================== FILTERING (ALL JOB TYPES) ==================
+
+    /** Filtered listing of the jobs of {@code type}; the intern and full-time services delegate here. */
+    @Transactional(readOnly = true)
+    public Slice<JobDTO> filterJobs(JobType type, JobFilter filter, Pageable pageable, PageTotal total,
+                                    UserPrincipal user) {
+        JobPageKey.Builder key = JobPageKey.of(type, "filter")
+                .list("keywords", filter.keywords()).list("categories", filter.categories())
+                .list("locations", filter.locations()).list("employmentTypes", filter.employmentTypes())
+                .list("experienceLevels", filter.experienceLevels()).value("isRemote", filter.isRemote())
+                .value("minSalary", filter.minSalary()).value("maxSalary", filter.maxSalary())
+                .list("companies", filter.companies()).list("sources", filter.sources())
+                .list("positions", filter.positions()).list("skills", filter.skills())
+                .value("locationSimilarity", filter.locationSimilarity());
+        boolean counted = total == PageTotal.EXACT;
+        Slice<JobDTO> jobs = jobPageCache.getSlice(counted ? key.page(pageable) : key.slice(pageable), pageable,
+                () -> findFilteredJobs(type, filter, pageable, counted));
+        if (total == PageTotal.APPROXIMATE) {
+            jobs = jobCountCache.withApproximateTotal(jobs, key.shape(), filter.hasKeywords() || filter.hasFilters(),
+                    () -> countFilteredJobs(type, filter));
+        }
+        return jobEnrichmentService.applyUserData(jobs, user);
+    }
+
+    /** As {@link #filterJobsAfter(JobFilter, String, int, String, Sort.Direction, UserPrincipal)}, over {@code type}. */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<JobDTO> filterJobsAfter(JobType type, JobFilter filter, String cursor, int size, String sort,
+                                                 Sort.Direction direction, UserPrincipal user) {
+        return jobFeedService.page(type, filter.keywords(), databaseFilters(filter), cursor, size, sort, direction, user);
+    }
+
+    private <T> Slice<JobSummaryDTO> findFilteredJobs(JobType type, JobFilter filter, Pageable pageable, boolean counted) {
+        Specification<T> filters = databaseFilters(filter);
+        if (filter.hasKeywords()) {
+            return counted
+                    ? jobSearchService.search(type, filter.keywords(), filters, pageable)
+                    : jobSearchService.searchSlice(type, filter.keywords(), filters, pageable);
+        }
+
+        Class<T> entityClass = entityClass(type);
+        return counted
+                ? jobCatalogRepository.findSummaryPage(entityClass, filters, pageable)
+                : jobCatalogRepository.findSummarySlice(entityClass, filters, pageable);
+    }
+
+    // Same jobs as findFilteredJobs; may run on the count cache's thread, inside a transaction of its own
+    private <T> long countFilteredJobs(JobType type, JobFilter filter) {
+        Specification<T> filters = databaseFilters(filter);
+        if (filter.hasKeywords()) {
+            return jobSearchService.count(type, filter.keywords(), filters);
+        }
+        return jobCatalogRepository.count(entityClass(type), filters);
+    }
+
+    // The filters the database applies; keywords are left to JobSearchService, so with keywords and
+    // nothing else there are none (null). Must run in the transaction of the query.
+    private <T> Specification<T> databaseFilters(JobFilter filter) {
+        if (filter.fuzzyLocations()) {
+            jobCatalogRepository.setWordSimilarityThreshold(filter.locationSimilarity());
+        }
+        return !filter.hasKeywords() || filter.hasFilters() ? filter.withoutKeywords() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> entityClass(JobType type) {
+        return (Class<T>) type.getEntityClass();
     }
 
     public Page<JobDTO> getPreferredJobs(
@@ -193,7 +295,7 @@ public class JobService {
             String locations,
             String skills,
             Pageable pageable, 
-            User user
+            UserPrincipal user
     ) {
         if (preferredCompanies == null || preferredCompanies.isEmpty()) {
             return new PageImpl<>(Collections.emptyList(), pageable, 0);
@@ -216,105 +318,63 @@ public class JobService {
         spec = spec.and(searchSpec);
 
         if ("intern".equalsIgnoreCase(type)) {
-            Page<InternJobs> jobs = internJobRepository.findAll(Specification.where((Specification<InternJobs>)(Specification<?>)spec), pageable);
-            return jobs.map(job -> enrichJobWithUserData(job, user));
+            Page<JobSummaryDTO> jobs = jobCatalogRepository.findSummaryPage(InternJobs.class, (Specification<InternJobs>)(Specification<?>)spec, pageable);
+            return jobEnrichmentService.enrichJobsWithUserData(jobs, user);
         } else if ("fulltime".equalsIgnoreCase(type)) {
-            Page<FulltimeJobs> jobs = fulltimeJobsRepository.findAll(Specification.where((Specification<FulltimeJobs>)(Specification<?>)spec), pageable);
-            return jobs.map(job -> enrichJobWithUserData(job, user));
+            Page<JobSummaryDTO> jobs = jobCatalogRepository.findSummaryPage(FulltimeJobs.class, (Specification<FulltimeJobs>)(Specification<?>)spec, pageable);
+            return jobEnrichmentService.enrichJobsWithUserData(jobs, user);
         } else {
-            Page<Job> jobs = jobRepository.findAll(Specification.where((Specification<Job>)(Specification<?>)spec), pageable);
-            return jobs.map(job -> enrichJobWithUserData(job, user));
+            Page<JobSummaryDTO> jobs = jobCatalogRepository.findSummaryPage(Job.class, (Specification<Job>)(Specification<?>)spec, pageable);
+            return jobEnrichmentService.enrichJobsWithUserData(jobs, user);
         }
     }
 
     // ================== SAVED JOBS ==================
 
-    // = [NEW] helper for polymorphic entity class lookup
-   private Class<?> getJobEntityClass(BaseJob job) {
-    // Unwrap proxy to get the real entity class
-    BaseJob unproxied = (BaseJob) Hibernate.unproxy(job);
-
-    if (unproxied instanceof InternJobs) {
-        return InternJobs.class;
-    } else if (unproxied instanceof FulltimeJobs) {
-        return FulltimeJobs.class;
-    } else if (unproxied instanceof Job) {
-        return Job.class;
+    // Id-only existence check; writes never hydrate the job row (and its description) just to learn its type
+    private void requireJobExists(JobType jobType, Long jobId) {
+        boolean exists = switch (jobType) {
+            case GENERAL -> jobRepository.existsById(jobId);
+            case INTERN -> internJobRepository.existsById(jobId);
+            case FULLTIME -> fulltimeJobsRepository.existsById(jobId);
+        };
+        if (!exists) {
+            throw new RuntimeException("Job not found with id: " + jobId);
+        }
     }
-    throw new IllegalArgumentException("Unknown job type: " + unproxied.getClass());
-}
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "savedJobs", allEntries = true),
-            @CacheEvict(value = "userStats", key = "#user.id")
-    })
-    public void saveJob(Long jobId, User user) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
+    @CacheEvict(value = "savedJobs", allEntries = true)
+    public void saveJob(JobType jobType, Long jobId, UserPrincipal user) {
+        requireJobExists(jobType, jobId);
 
-        Class<?> jobClass = getJobEntityClass(job);
-        if (savedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass)) {
+        // Insert-if-absent against the (user_id, job_type, job_id) unique key: one round-trip, no duplicates on double submit
+        if (savedJobRepository.insertIfAbsent(user.getId(), jobType.name(), jobId, LocalDateTime.now()) == 0) {
             throw new RuntimeException("Job already saved");
         }
-
-        SavedJob savedJob = new SavedJob();
-        savedJob.setUser(user);
-        savedJob.setJob(job);
-        savedJobRepository.save(savedJob);
+        userInteractionIndex.recordSaved(user.getId(), jobType, jobId);
+        userStatsService.recordSaved(user.getId());
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "savedJobs", allEntries = true),
-            @CacheEvict(value = "userStats", key = "#user.id")
-    })
-    public void unsaveJob(Long jobId, User user) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
-
-        Class<?> jobClass = getJobEntityClass(job);
-        if (!savedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass)) {
+    @CacheEvict(value = "savedJobs", allEntries = true)
+    public void unsaveJob(JobType jobType, Long jobId, UserPrincipal user) {
+        List<Object> removed = savedJobRepository.deleteReturningSavedAt(user.getId(), jobType.name(), jobId);
+        if (removed.isEmpty()) {
             throw new RuntimeException("Job not saved");
         }
-
-        savedJobRepository.deleteByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass);
+        userInteractionIndex.recordUnsaved(user.getId(), jobType, jobId);
+        userStatsService.recordUnsaved(user.getId(), NativeResults.toLocalDateTime(removed.get(0)));
     }
 
     @Transactional(readOnly = true)
     @Cacheable(value = "savedJobs", key = "#user.id + '-' + #pageable.pageNumber + '-' + #pageable.sort.toString()")
-    public Page<JobDTO> getSavedJobs(Pageable pageable, User user) {
-        Page<SavedJob> savedJobs = savedJobRepository.findByUserId(user.getId(), pageable);
-        List<JobDTO> dtoList = savedJobs.getContent().stream()
-                .map(savedJob -> {
-                    JobDTO dto = JobDTO.fromEntity(savedJob.getJob());
-                    if (dto == null) return null;
-
-                    dto.setIsSaved(true);
-
-                    // Note: Since savedJob.getJob() could be of any type, we need to check its actual type for the application status lookup
-                    Class<?> jobClass = getJobEntityClass(savedJob.getJob());
-                    dto.setIsApplied(appliedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), savedJob.getJob().getId(), jobClass));
-                    if (dto.getIsApplied()) {
-                        appliedJobRepository.findByUserIdAndJobIdAndJobType(user.getId(), savedJob.getJob().getId(), jobClass)
-                                .ifPresent(applied -> {
-                                    dto.setApplicationStatus(applied.getStatus().name());
-                                    dto.setAppliedAt(applied.getAppliedAt());
-                                });
-                    }
-                    return dto;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtoList, pageable, savedJobs.getTotalElements());
+    public Page<JobDTO> getSavedJobs(Pageable pageable, UserPrincipal user) {
+        return userJobListService.getSavedJobs(pageable, user.getId());
     }
 
-    public SavedStatusDTO isJobSaved(Long jobId, User user) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
-        Class<?> jobClass = getJobEntityClass(job);
-        boolean saved = savedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass);
+    public SavedStatusDTO isJobSaved(JobType jobType, Long jobId, UserPrincipal user) {
+        boolean saved = savedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), jobId, jobType.getEntityClass());
         return SavedStatusDTO.builder().saved(saved).build();
     }
 
@@ -329,30 +389,19 @@ public class JobService {
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "appliedJobs", allEntries = true),
-            @CacheEvict(value = "savedJobs", allEntries = true),
-            @CacheEvict(value = "userStats", key = "#user.id")
+            @CacheEvict(value = "savedJobs", allEntries = true)
     })
-    public AppliedStatusDTO updateJobStatus(Long jobId, AppliedJob.ApplicationStatus status, User user) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
-
-        Class<?> jobClass = getJobEntityClass(job);
-        Optional<AppliedJob> existingApplication = appliedJobRepository.findByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass);
-
-        AppliedJob appliedJob;
-        if (existingApplication.isPresent()) {
-            // Update existing application
-            appliedJob = existingApplication.get();
-            appliedJob.setStatus(status);
-        } else {
-            // Create new application
-            appliedJob = new AppliedJob();
-            appliedJob.setUser(user);
-            appliedJob.setJob(job);
-            appliedJob.setStatus(status);
-        }
-
-        appliedJobRepository.save(appliedJob);
+    public AppliedStatusDTO updateJobStatus(JobType jobType, Long jobId, AppliedJob.ApplicationStatus status, UserPrincipal user) {
+        requireJobExists(jobType, jobId);
+
+        // Single-statement upsert; applied_at keeps its original value when only the status changes
+        Object[] upserted = appliedJobRepository.upsertStatus(
+                user.getId(), jobType.name(), jobId, status.name(), LocalDateTime.now()).get(0);
+        AppliedJob.ApplicationStatus previous = upserted[1] != null
+                ? AppliedJob.ApplicationStatus.valueOf((String) upserted[1])
+                : null;
+        userInteractionIndex.recordApplication(user.getId(), jobType, jobId, status, NativeResults.toLocalDateTime(upserted[0]));
+        userStatsService.recordStatus(user.getId(), previous, status);
 
         return AppliedStatusDTO.builder()
                 .applied(true)
@@ -367,18 +416,17 @@ public class JobService {
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "appliedJobs", allEntries = true),
-            @CacheEvict(value = "savedJobs", allEntries = true),
-            @CacheEvict(value = "userStats", key = "#user.id")
+            @CacheEvict(value = "savedJobs", allEntries = true)
     })
-    public void withdrawApplication(Long jobId, User user) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
-        Class<?> jobClass = getJobEntityClass(job);
-        if (!appliedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass)) {
+    public void withdrawApplication(JobType jobType, Long jobId, UserPrincipal user) {
+        List<Object[]> removed = appliedJobRepository.deleteReturningState(user.getId(), jobType.name(), jobId);
+        if (removed.isEmpty()) {
             throw new RuntimeException("No application found to withdraw");
         }
-
-        appliedJobRepository.deleteByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass);
+        userInteractionIndex.recordWithdrawn(user.getId(), jobType, jobId);
+        userStatsService.recordWithdrawn(user.getId(),
+                AppliedJob.ApplicationStatus.valueOf((String) removed.get(0)[0]),
+                NativeResults.toLocalDateTime(removed.get(0)[1]));
     }
 
     /**
@@ -386,11 +434,8 @@ public class JobService {
      * Returns applied=false if not applied
      * Returns applied=true with status if applied
      */
-    public AppliedStatusDTO getJobStatus(Long jobId, User user) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
-        Class<?> jobClass = getJobEntityClass(job);
-        Optional<AppliedJob> appliedJob = appliedJobRepository.findByUserIdAndJobIdAndJobType(user.getId(), jobId, jobClass);
+    public AppliedStatusDTO getJobStatus(JobType jobType, Long jobId, UserPrincipal user) {
+        Optional<AppliedJob> appliedJob = appliedJobRepository.findByUserIdAndJobIdAndJobType(user.getId(), jobId, jobType.getEntityClass());
 
         if (appliedJob.isPresent()) {
             return AppliedStatusDTO.builder()
@@ -410,93 +455,20 @@ public class JobService {
     @Transactional(readOnly = true)
     @Cacheable(value = "appliedJobs", key = "#user.id + '-' + #pageable.pageNumber + '-' + #pageable.sort.toString() + '-' + (#statuses != null ? #statuses.toString() : 'all')")
     public Page<JobDTO> getAppliedJobs(List<AppliedJob.ApplicationStatus> statuses,
-                                       Pageable pageable, User user) {
-        Page<AppliedJob> appliedJobs;
-
-        if (statuses != null && !statuses.isEmpty()) {
-            appliedJobs = appliedJobRepository.findByUserIdAndStatusIn(user.getId(), statuses, pageable);
-        } else {
-            appliedJobs = appliedJobRepository.findByUserId(user.getId(), pageable);
-        }
-
-        List<JobDTO> dtoList = appliedJobs.getContent().stream()
-                .map(appliedJob -> {
-                    JobDTO dto = JobDTO.fromEntity(appliedJob.getJob());
-                    if (dto == null) return null;
-
-                    dto.setIsApplied(true);
-                    dto.setApplicationStatus(appliedJob.getStatus().name());
-                    dto.setAppliedAt(appliedJob.getAppliedAt());
-
-                    Class<?> jobClass = getJobEntityClass(appliedJob.getJob());
-                    dto.setIsSaved(savedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), appliedJob.getJob().getId(), jobClass));
-                    return dto;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtoList, pageable, appliedJobs.getTotalElements());
+                                       Pageable pageable, UserPrincipal user) {
+        return userJobListService.getAppliedJobs(statuses, pageable, user.getId());
     }
 
-    // ================== USER STATISTICS ==================
-
-    @Cacheable(value = "userStats", key = "#user.id")
-    public UserStatsDTO getUserStats(User user) {
-        long totalSaved = savedJobRepository.countByUserId(user.getId());
-        long totalApplied = appliedJobRepository.countByUserId(user.getId());
-
-        LocalDateTime weekAgo = LocalDateTime.now().minusWeeks(1);
-        long savedThisWeek = savedJobRepository.countByUserIdAndSavedAtAfter(user.getId(), weekAgo);
-        long appliedThisWeek = appliedJobRepository.countByUserIdAndAppliedAtAfter(user.getId(), weekAgo);
-
-        Map<String, Long> statusBreakdown = new HashMap<>();
-        for (AppliedJob.ApplicationStatus status : AppliedJob.ApplicationStatus.values()) {
-            long count = appliedJobRepository.countByUserIdAndStatus(user.getId(), status);
-            statusBreakdown.put(status.name(), count);
-        }
-
-        return UserStatsDTO.builder()
-                .totalSaved(totalSaved)
-                .totalApplied(totalApplied)
-                .applicationStatusBreakdown(statusBreakdown)
-                .recentActivity(UserStatsDTO.RecentActivityDTO.builder()
-                        .savedThisWeek(savedThisWeek)
-                        .appliedThisWeek(appliedThisWeek)
-                        .build())
-                .build();
-    }
-
-    // ================== HELPER METHODS ==================
-
-    private Page<JobDTO> enrichJobsWithUserData(Page<? extends BaseJob> jobs, User user) {
-        List<JobDTO> dtoList = jobs.getContent().stream()
-                .map(job -> enrichJobWithUserData(job, user))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        return new PageImpl<>(dtoList, jobs.getPageable(), jobs.getTotalElements());
+    public void exportPipeline(ExportFormat format, UserPrincipal user, OutputStream out) throws IOException {
+        userJobListService.exportPipeline(user.getId(), format, out);
     }
 
-    private JobDTO enrichJobWithUserData(BaseJob job, User user) {
-        JobDTO dto = JobDTO.fromEntity(job);
-        if (dto == null) return null;
-
-        if (user != null) {
-            Class<?> jobClass = getJobEntityClass(job);
-            dto.setIsSaved(savedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), job.getId(), jobClass));
-            dto.setIsApplied(appliedJobRepository.existsByUserIdAndJobIdAndJobType(user.getId(), job.getId(), jobClass));
-
-            if (dto.getIsApplied()) {
-                appliedJobRepository.findByUserIdAndJobIdAndJobType(user.getId(), job.getId(), jobClass)
-                        .ifPresent(applied -> {
-                            dto.setApplicationStatus(applied.getStatus().name());
-                            dto.setAppliedAt(applied.getAppliedAt());
-                        });
-            }
-
-            List<String> preferredCompanies = preferenceService.getUserPreferredCompanies(user.getId());
-            dto.setIsFollowed(preferredCompanies.contains(job.getCompany().trim()));
-        }
+    // ================== USER STATISTICS ==================
 
-        return dto;
+    /**
+     * Dashboard counters; O(1) once the user's counters are in memory
+     */
+    public UserStatsDTO getUserStats(UserPrincipal user) {
+        return userStatsService.getUserStats(user.getId());
     }
 }
@@ -0,0 +1,203 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.JobSkill;
+import com.projects.JobTracker_Backend.model.JobSkillTaggingState;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import com.projects.JobTracker_Backend.repository.JobSkillRepository;
+import com.projects.JobTracker_Backend.repository.JobSkillTaggingStateRepository;
+import com.projects.JobTracker_Backend.search.SkillDictionary;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tags jobs with the skills of {@link SkillDictionary} found in their title and description,
+ * stored in job_skills for the skills filter and the per-job skill lists.
+ *
+ * Jobs are written by the ingestion scripts, so tagging follows {@link CatalogChangedEvent}s: each
+ * table's inserted and updated rows are scanned once with the dictionary's Aho-Corasick matcher and
+ * their tags replaced. Progress is kept per table in job_skill_tagging_state, committed with the tags,
+ * so a restart resumes where it stopped; a changed dictionary retags the whole table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSkillTaggingService {
+
+    // Lower bound for the first "updated since" query of a table whose rows have no updated_at yet
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String COLUMNS = "title, description";
+
+    private final JobCatalogRepository jobCatalogRepository;
+    private final JobSkillRepository jobSkillRepository;
+    private final JobSkillTaggingStateRepository taggingStateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${skills.tagging.enabled:true}")
+    private boolean enabled;
+    @Value("${skills.tagging.batch-size:500}")
+    private int batchSize;
+
+    private final Map<JobType, AtomicBoolean> pending = new EnumMap<>(JobType.class);
+    private final Map<JobType, AtomicLong> generations = new EnumMap<>(JobType.class);
+    private ExecutorService tagger;
+
+    @PostConstruct
+    public void init() {
+        for (JobType type : JobType.values()) {
+            pending.put(type, new AtomicBoolean());
+            generations.put(type, new AtomicLong());
+        }
+        this.tagger = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-skill-tagger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tagger.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        for (JobType type : JobType.values()) {
+            schedule(type);
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        for (JobType type : event.changedTypes()) {
+            schedule(type);
+        }
+    }
+
+    /** Number of tagging runs that changed the table's tags; part of {@link JobPageCache} keys. */
+    public long getGeneration(JobType type) {
+        return generations.get(type).get();
+    }
+
+    /** Sets the skill names of each DTO from job_skills; one query per job type present. */
+    public void attachSkills(List<JobDTO> jobs) {
+        Map<JobType, Map<Long, JobDTO>> byType = new EnumMap<>(JobType.class);
+        for (JobDTO dto : jobs) {
+            dto.setSkills(new ArrayList<>());
+            byType.computeIfAbsent(dto.getJobType(), type -> new HashMap<>()).put(dto.getId(), dto);
+        }
+
+        SkillDictionary dictionary = SkillDictionary.getDefault();
+        byType.forEach((type, dtos) -> {
+            for (Object[] row : jobSkillRepository.findSkillIds(type, dtos.keySet())) {
+                String name = dictionary.nameOf((Integer) row[1]);
+                if (name != null) dtos.get((Long) row[0]).getSkills().add(name);
+            }
+        });
+    }
+
+    // ================== TAGGING ==================
+
+    // Changes arriving while a table is queued are coalesced into that one run
+    private void schedule(JobType type) {
+        if (enabled && pending.get(type).compareAndSet(false, true)) {
+            tagger.submit(() -> tag(type));
+        }
+    }
+
+    private void tag(JobType type) {
+        pending.get(type).set(false);
+        try {
+            SkillDictionary dictionary = SkillDictionary.getDefault();
+            JobSkillTaggingState state = taggingStateRepository.findById(type).orElse(null);
+            if (state == null || state.getDictionaryVersion() != dictionary.getVersion()) {
+                retagAll(type, dictionary);
+            } else {
+                tagChanged(type, dictionary, state);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to tag skills for {} jobs", type, e);
+        }
+    }
+
+    // Batches replace tags job by job, so the old tags keep serving the filter until each job is retagged;
+    // tags of jobs the pass did not reach (inactive, deleted, or inserted since) are dropped at the end
+    private void retagAll(JobType type, SkillDictionary dictionary) {
+        long startedAt = System.currentTimeMillis();
+        JobSkillTaggingState state = new JobSkillTaggingState(type, dictionary.getVersion(), 0L, null);
+        int tagged = 0;
+        List<Object[]> batch;
+        do {
+            batch = jobCatalogRepository.findActiveRows(type, COLUMNS, state.getMaxId(), batchSize);
+            apply(type, dictionary, batch, state);
+            tagged += batch.size();
+        } while (batch.size() == batchSize);
+
+        long maxId = state.getMaxId();
+        int stale = transactionTemplate.execute(status -> jobCatalogRepository.deleteStaleSkillTags(type, maxId));
+        if (stale > 0) {
+            generations.get(type).incrementAndGet();
+        }
+        log.info("Tagged skills of {} active {} jobs in {} ms", tagged, type, System.currentTimeMillis() - startedAt);
+    }
+
+    private void tagChanged(JobType type, SkillDictionary dictionary, JobSkillTaggingState state) {
+        List<Object[]> changed = jobCatalogRepository.findChangedRows(
+                type, COLUMNS, state.getMaxId(), state.getMaxUpdatedAt() != null ? state.getMaxUpdatedAt() : EPOCH);
+        for (int from = 0; from < changed.size(); from += batchSize) {
+            apply(type, dictionary, changed.subList(from, Math.min(from + batchSize, changed.size())), state);
+        }
+        log.debug("Tagged skills of {} changed {} jobs", changed.size(), type);
+    }
+
+    // Rows: id, is_active, updated_at, title, description. Inactive jobs just lose their tags.
+    private void apply(JobType type, SkillDictionary dictionary, List<Object[]> rows, JobSkillTaggingState state) {
+        if (rows.isEmpty()) return;
+
+        List<Long> jobIds = new ArrayList<>(rows.size());
+        List<JobSkill> tags = new ArrayList<>();
+        for (Object[] row : rows) {
+            long jobId = NativeResults.toLong(row[0]);
+            jobIds.add(jobId);
+            if (Boolean.TRUE.equals(row[1])) {
+                for (Integer skillId : dictionary.tag((String) row[3], NativeResults.toText(row[4]))) {
+                    tags.add(new JobSkill(type, jobId, skillId));
+                }
+            }
+            state.setMaxId(Math.max(state.getMaxId(), jobId));
+            if (row[2] != null) {
+                LocalDateTime updatedAt = NativeResults.toLocalDateTime(row[2]);
+                if (state.getMaxUpdatedAt() == null || updatedAt.isAfter(state.getMaxUpdatedAt())) {
+                    state.setMaxUpdatedAt(updatedAt);
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jobSkillRepository.deleteByJobIds(type, jobIds);
+            jobSkillRepository.saveAll(tags);
+            taggingStateRepository.save(state);
+        });
+        generations.get(type).incrementAndGet();
+    }
+}
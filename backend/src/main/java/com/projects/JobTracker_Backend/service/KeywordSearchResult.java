@@ -0,0 +1,13 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+/**
+ * A page of keyword search results and the spelling corrections applied to the keywords
+ * (misspelled word -> word searched for instead).
+ */
+public record KeywordSearchResult(Page<JobDTO> jobs, Map<String, String> corrections) {
+}
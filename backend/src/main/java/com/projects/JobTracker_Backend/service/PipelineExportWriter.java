@@ -0,0 +1,82 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.enums.ExportFormat;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes pipeline export rows one at a time, as CSV (RFC 4180, with a header row) or NDJSON with
+ * the same fields. Holds nothing but the current row.
+ */
+class PipelineExportWriter {
+
+    private static final List<String> COLUMNS = List.of(
+            "jobType", "jobId", "title", "company", "location", "department", "employmentType",
+            "experienceLevel", "jobCategory", "source", "isRemote", "minSalary", "maxSalary", "postedAt",
+            "applyUrl", "isActive", "savedAt", "applicationStatus", "appliedAt");
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final JsonMapper jsonMapper;
+
+    PipelineExportWriter(ExportFormat format, Writer writer, JsonMapper jsonMapper) {
+        this.format = format;
+        this.writer = writer;
+        this.jsonMapper = jsonMapper;
+    }
+
+    void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+    }
+
+    void write(JobDTO job, LocalDateTime savedAt) throws IOException {
+        List<Object> values = Arrays.asList(
+                job.getJobType(), job.getId(), job.getTitle(), job.getCompany(), job.getLocation(),
+                job.getDepartment(), job.getEmploymentType(), job.getExperienceLevel(), job.getJobCategory(),
+                job.getSource(), job.getIsRemote(), job.getMinSalary(), job.getMaxSalary(), job.getPostedAt(),
+                job.getApplyUrl(), job.getIsActive(), savedAt, job.getApplicationStatus(), job.getAppliedAt());
+
+        if (format == ExportFormat.NDJSON) {
+            Map<String, Object> object = new LinkedHashMap<>();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                object.put(COLUMNS.get(i), values.get(i));
+            }
+            writer.write(jsonMapper.writeValueAsString(object));
+            writer.write('\n');
+            return;
+        }
+
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) writer.write(',');
+            Object value = values.get(i);
+            if (value instanceof String text) {
+                writer.write(csvText(text));
+            } else if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // Quoted when needed; text a spreadsheet would evaluate as a formula gets a leading apostrophe
+    private static String csvText(String text) {
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
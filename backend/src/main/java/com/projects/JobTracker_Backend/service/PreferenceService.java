@@ -4,11 +4,17 @@ import com.projects.JobTracker_Backend.model.User;
 import com.projects.JobTracker_Backend.model.UserPreferredCompany;
 import com.projects.JobTracker_Backend.repository.UserPreferredCompanyRepository;
 import com.projects.JobTracker_Backend.repository.UserRepository;
+import com.projects.JobTracker_Backend.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,6 +24,8 @@ public class PreferenceService {
     private final UserPreferredCompanyRepository preferenceRepository;
     private final UserRepository userRepository;
     private final CompanyService companyService;
+    private final UserStateVersions userStateVersions;
+    private final CacheManager cacheManager;
 
     public List<String> getUserPreferredCompanies(Long userId) {
         return preferenceRepository.findByUserId(userId)
@@ -26,6 +34,23 @@ public class PreferenceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Followed companies as a normalized set (see {@link #normalizeCompany}) for O(1) membership checks.
+     * Cached per user and evicted once a save of the user's preferences commits.
+     */
+    @Cacheable(value = "followedCompanies", key = "#userId")
+    public Set<String> getFollowedCompanyKeys(Long userId) {
+        return preferenceRepository.findByUserId(userId)
+                .stream()
+                .map(UserPreferredCompany::getCompanyName)
+                .map(PreferenceService::normalizeCompany)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static String normalizeCompany(String companyName) {
+        return companyName.trim().toLowerCase(Locale.ROOT);
+    }
+
     @Transactional
     public void saveUserPreferredCompanies(Long userId, List<String> companies) {
         User user = userRepository.findById(userId)
@@ -47,5 +72,11 @@ public class PreferenceService {
                 .collect(Collectors.toList());
 
         preferenceRepository.saveAll(newPreferences);
+        userStateVersions.changed(userId);
+        // Evicting before the commit would let a concurrent read re-cache the old set
+        AfterCommit.run(() -> {
+            Cache followed = cacheManager.getCache("followedCompanies");
+            if (followed != null) followed.evict(userId);
+        });
     }
 }
@@ -0,0 +1,149 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.AppliedJob;
+import com.projects.JobTracker_Backend.repository.AppliedJobRepository;
+import com.projects.JobTracker_Backend.repository.SavedJobRepository;
+import com.projects.JobTracker_Backend.util.AfterCommit;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per-user in-memory index of saved and applied jobs.
+ *
+ * A user's interactions are loaded with one query per interaction table the first time
+ * they are needed and then kept current by write-through updates from the save / status
+ * paths, so listing pages can be enriched without touching the database.
+ * Memory is bounded by total estimated heap; idle users expire and are reloaded on demand.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserInteractionIndex {
+
+    // Marker for users with too many interactions to keep in memory; they fall back to per-page queries
+    private static final UserInteractions OVERSIZED = UserInteractions.empty();
+
+    private final SavedJobRepository savedJobRepository;
+    private final AppliedJobRepository appliedJobRepository;
+    private final UserStateVersions userStateVersions;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${interactions.index.max-heap-bytes:33554432}")
+    private long maxHeapBytes;
+    @Value("${interactions.index.idle-minutes:30}")
+    private long idleMinutes;
+    @Value("${interactions.index.max-entries-per-user:20000}")
+    private int maxEntriesPerUser;
+
+    private Cache<Long, UserInteractions> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxHeapBytes)
+                .weigher((Long userId, UserInteractions interactions) -> interactions.estimatedHeapBytes())
+                .expireAfterAccess(idleMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userInteractions");
+        Gauge.builder("user.interactions.heap.bytes", this, UserInteractionIndex::weightedSize)
+                .description("Estimated heap held by the per-user interaction index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("user.interactions.heap.bytes.per.user", this, UserInteractionIndex::heapBytesPerUser)
+                .description("Average estimated heap per indexed user")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the user's interactions, loading them on first access.
+     * Returns null when the user has too many rows to index; callers must then query the database.
+     */
+    public UserInteractions get(Long userId) {
+        UserInteractions interactions = cache.get(userId, this::load);
+        return interactions == OVERSIZED ? null : interactions;
+    }
+
+    // ================== WRITE-THROUGH ==================
+
+    public void recordSaved(Long userId, JobType type, Long jobId) {
+        updateAfterCommit(userId, interactions -> interactions.withSaved(type, jobId));
+    }
+
+    public void recordUnsaved(Long userId, JobType type, Long jobId) {
+        updateAfterCommit(userId, interactions -> interactions.withoutSaved(type, jobId));
+    }
+
+    public void recordApplication(Long userId, JobType type, Long jobId,
+                                  AppliedJob.ApplicationStatus status, LocalDateTime appliedAt) {
+        updateAfterCommit(userId, interactions -> interactions.withApplication(type, jobId, status, appliedAt));
+    }
+
+    public void recordWithdrawn(Long userId, JobType type, Long jobId) {
+        updateAfterCommit(userId, interactions -> interactions.withoutApplication(type, jobId));
+    }
+
+    /**
+     * Applies the change once the surrounding transaction commits, so a rollback never leaks
+     * into the index. Only users already in memory are touched; a concurrent load for the same
+     * user is serialized with the update by the cache, and all updates are idempotent.
+     * The user's state version moves on at the same point.
+     */
+    private void updateAfterCommit(Long userId, UnaryOperator<UserInteractions> update) {
+        userStateVersions.changed(userId);
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(userId,
+                (id, interactions) -> interactions == OVERSIZED ? interactions : update.apply(interactions)));
+    }
+
+    // ================== LOADING ==================
+
+    private UserInteractions load(Long userId) {
+        UserInteractions.Builder builder = new UserInteractions.Builder();
+
+        var savedRows = savedJobRepository.findAllJobKeysByUserId(userId);
+        var appliedRows = appliedJobRepository.findAllApplicationStatesByUserId(userId);
+        if (savedRows.size() + appliedRows.size() > maxEntriesPerUser) {
+            log.info("User {} has {} interactions, not indexing in memory", userId, savedRows.size() + appliedRows.size());
+            return OVERSIZED;
+        }
+
+        for (Object[] row : savedRows) {
+            builder.addSaved(JobType.valueOf((String) row[0]), ((Number) row[1]).longValue());
+        }
+        for (Object[] row : appliedRows) {
+            builder.addApplication(
+                    JobType.valueOf((String) row[0]),
+                    ((Number) row[1]).longValue(),
+                    AppliedJob.ApplicationStatus.valueOf((String) row[2]),
+                    NativeResults.toLocalDateTime(row[3]));
+        }
+        return builder.build();
+    }
+
+    // ================== METRICS ==================
+
+    private double weightedSize() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    private double heapBytesPerUser() {
+        long users = cache.estimatedSize();
+        return users == 0 ? 0 : weightedSize() / users;
+    }
+}
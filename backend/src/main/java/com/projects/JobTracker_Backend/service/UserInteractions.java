@@ -0,0 +1,266 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.AppliedJob;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of one user's saved and applied job ids, split by job type.
+ * Ids are kept in sorted primitive arrays (binary-searched); applied entries carry
+ * their status ordinal and appliedAt (epoch micros, UTC) in parallel arrays.
+ * Every mutation returns a new instance, so readers never need locking.
+ */
+public final class UserInteractions {
+
+    private static final AppliedJob.ApplicationStatus[] STATUSES = AppliedJob.ApplicationStatus.values();
+    private static final int TYPES = JobType.values().length;
+    private static final long[] NO_IDS = new long[0];
+    private static final byte[] NO_STATUSES = new byte[0];
+
+    private final long[][] savedIds;
+    private final long[][] appliedIds;
+    private final byte[][] appliedStatuses;
+    private final long[][] appliedAtMicros;
+
+    private UserInteractions(long[][] savedIds, long[][] appliedIds,
+                             byte[][] appliedStatuses, long[][] appliedAtMicros) {
+        this.savedIds = savedIds;
+        this.appliedIds = appliedIds;
+        this.appliedStatuses = appliedStatuses;
+        this.appliedAtMicros = appliedAtMicros;
+    }
+
+    public static UserInteractions empty() {
+        long[][] saved = new long[TYPES][];
+        long[][] applied = new long[TYPES][];
+        byte[][] statuses = new byte[TYPES][];
+        long[][] appliedAt = new long[TYPES][];
+        for (int i = 0; i < TYPES; i++) {
+            saved[i] = NO_IDS;
+            applied[i] = NO_IDS;
+            statuses[i] = NO_STATUSES;
+            appliedAt[i] = NO_IDS;
+        }
+        return new UserInteractions(saved, applied, statuses, appliedAt);
+    }
+
+    // ================== READS ==================
+
+    public boolean isSaved(JobType type, long jobId) {
+        return Arrays.binarySearch(savedIds[type.ordinal()], jobId) >= 0;
+    }
+
+    public AppliedJob.ApplicationStatus getApplicationStatus(JobType type, long jobId) {
+        int i = Arrays.binarySearch(appliedIds[type.ordinal()], jobId);
+        return i >= 0 ? STATUSES[appliedStatuses[type.ordinal()][i]] : null;
+    }
+
+    public LocalDateTime getAppliedAt(JobType type, long jobId) {
+        int i = Arrays.binarySearch(appliedIds[type.ordinal()], jobId);
+        return i >= 0 ? fromMicros(appliedAtMicros[type.ordinal()][i]) : null;
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < TYPES; i++) {
+            size += savedIds[i].length + appliedIds[i].length;
+        }
+        return size;
+    }
+
+    /**
+     * Approximate retained heap of this snapshot, used as the cache weight.
+     */
+    public int estimatedHeapBytes() {
+        // object header + 4 outer arrays
+        int bytes = 16 + 4 * (16 + TYPES * 4);
+        for (int i = 0; i < TYPES; i++) {
+            bytes += 16 + savedIds[i].length * 8;
+            bytes += 16 + appliedIds[i].length * 8;
+            bytes += 16 + appliedStatuses[i].length;
+            bytes += 16 + appliedAtMicros[i].length * 8;
+        }
+        return bytes;
+    }
+
+    // ================== COPY-ON-WRITE UPDATES ==================
+
+    public UserInteractions withSaved(JobType type, long jobId) {
+        int t = type.ordinal();
+        int i = Arrays.binarySearch(savedIds[t], jobId);
+        if (i >= 0) return this;
+
+        long[][] saved = savedIds.clone();
+        saved[t] = insertAt(savedIds[t], -i - 1, jobId);
+        return new UserInteractions(saved, appliedIds, appliedStatuses, appliedAtMicros);
+    }
+
+    public UserInteractions withoutSaved(JobType type, long jobId) {
+        int t = type.ordinal();
+        int i = Arrays.binarySearch(savedIds[t], jobId);
+        if (i < 0) return this;
+
+        long[][] saved = savedIds.clone();
+        saved[t] = removeAt(savedIds[t], i);
+        return new UserInteractions(saved, appliedIds, appliedStatuses, appliedAtMicros);
+    }
+
+    public UserInteractions withApplication(JobType type, long jobId,
+                                            AppliedJob.ApplicationStatus status, LocalDateTime appliedAt) {
+        int t = type.ordinal();
+        long[][] applied = appliedIds.clone();
+        byte[][] statuses = appliedStatuses.clone();
+        long[][] appliedAtCopy = appliedAtMicros.clone();
+
+        int i = Arrays.binarySearch(appliedIds[t], jobId);
+        if (i >= 0) {
+            statuses[t] = appliedStatuses[t].clone();
+            statuses[t][i] = (byte) status.ordinal();
+            if (appliedAt != null) {
+                appliedAtCopy[t] = appliedAtMicros[t].clone();
+                appliedAtCopy[t][i] = toMicros(appliedAt);
+            }
+        } else {
+            int at = -i - 1;
+            applied[t] = insertAt(appliedIds[t], at, jobId);
+            statuses[t] = insertAt(appliedStatuses[t], at, (byte) status.ordinal());
+            appliedAtCopy[t] = insertAt(appliedAtMicros[t], at,
+                    toMicros(appliedAt != null ? appliedAt : LocalDateTime.now()));
+        }
+        return new UserInteractions(savedIds, applied, statuses, appliedAtCopy);
+    }
+
+    public UserInteractions withoutApplication(JobType type, long jobId) {
+        int t = type.ordinal();
+        int i = Arrays.binarySearch(appliedIds[t], jobId);
+        if (i < 0) return this;
+
+        long[][] applied = appliedIds.clone();
+        byte[][] statuses = appliedStatuses.clone();
+        long[][] appliedAt = appliedAtMicros.clone();
+        applied[t] = removeAt(appliedIds[t], i);
+        statuses[t] = removeAt(appliedStatuses[t], i);
+        appliedAt[t] = removeAt(appliedAtMicros[t], i);
+        return new UserInteractions(savedIds, applied, statuses, appliedAt);
+    }
+
+    // ================== BULK BUILD ==================
+
+    /**
+     * Accumulates rows while loading a user from the database, then sorts once.
+     */
+    public static final class Builder {
+        private final long[][] saved = new long[TYPES][];
+        private final int[] savedCount = new int[TYPES];
+        private final long[][] applied = new long[TYPES][];
+        private final byte[][] statuses = new byte[TYPES][];
+        private final long[][] appliedAt = new long[TYPES][];
+        private final int[] appliedCount = new int[TYPES];
+
+        public Builder() {
+            for (int i = 0; i < TYPES; i++) {
+                saved[i] = new long[4];
+                applied[i] = new long[4];
+                statuses[i] = new byte[4];
+                appliedAt[i] = new long[4];
+            }
+        }
+
+        public Builder addSaved(JobType type, long jobId) {
+            int t = type.ordinal();
+            if (savedCount[t] == saved[t].length) {
+                saved[t] = Arrays.copyOf(saved[t], saved[t].length * 2);
+            }
+            saved[t][savedCount[t]++] = jobId;
+            return this;
+        }
+
+        public Builder addApplication(JobType type, long jobId,
+                                      AppliedJob.ApplicationStatus status, LocalDateTime at) {
+            int t = type.ordinal();
+            if (appliedCount[t] == applied[t].length) {
+                int grown = applied[t].length * 2;
+                applied[t] = Arrays.copyOf(applied[t], grown);
+                statuses[t] = Arrays.copyOf(statuses[t], grown);
+                appliedAt[t] = Arrays.copyOf(appliedAt[t], grown);
+            }
+            int n = appliedCount[t]++;
+            applied[t][n] = jobId;
+            statuses[t][n] = (byte) status.ordinal();
+            appliedAt[t][n] = at != null ? toMicros(at) : 0L;
+            return this;
+        }
+
+        public UserInteractions build() {
+            long[][] savedIds = new long[TYPES][];
+            long[][] appliedIds = new long[TYPES][];
+            byte[][] appliedStatuses = new byte[TYPES][];
+            long[][] appliedAtMicros = new long[TYPES][];
+
+            for (int t = 0; t < TYPES; t++) {
+                savedIds[t] = Arrays.copyOf(saved[t], savedCount[t]);
+                Arrays.sort(savedIds[t]);
+
+                int n = appliedCount[t];
+                Integer[] order = new Integer[n];
+                for (int i = 0; i < n; i++) order[i] = i;
+                long[] ids = applied[t];
+                Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+
+                appliedIds[t] = new long[n];
+                appliedStatuses[t] = new byte[n];
+                appliedAtMicros[t] = new long[n];
+                for (int i = 0; i < n; i++) {
+                    appliedIds[t][i] = ids[order[i]];
+                    appliedStatuses[t][i] = statuses[t][order[i]];
+                    appliedAtMicros[t][i] = appliedAt[t][order[i]];
+                }
+            }
+            return new UserInteractions(savedIds, appliedIds, appliedStatuses, appliedAtMicros);
+        }
+    }
+
+    // ================== HELPERS ==================
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long[] insertAt(long[] array, int index, long value) {
+        long[] copy = new long[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = value;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    private static byte[] insertAt(byte[] array, int index, byte value) {
+        byte[] copy = new byte[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = value;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    private static long[] removeAt(long[] array, int index) {
+        long[] copy = new long[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    private static byte[] removeAt(byte[] array, int index) {
+        byte[] copy = new byte[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+}
@@ -0,0 +1,177 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.enums.ExportFormat;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.AppliedJob;
+import com.projects.JobTracker_Backend.model.DescriptionSnippet;
+import com.projects.JobTracker_Backend.model.Job;
+import com.projects.JobTracker_Backend.repository.AppliedJobRepository;
+import com.projects.JobTracker_Backend.repository.JobCardQueries;
+import com.projects.JobTracker_Backend.repository.SavedJobRepository;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Builds the "My saved jobs" and "My applications" pages.
+ *
+ * Each page costs at most three statements whatever its size: the page of interaction row ids,
+ * its count, and one projection query (a UNION ALL branch per job table) that returns the job
+ * columns together with the other interaction table's state. The export streams the same
+ * columns for the whole pipeline.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserJobListService {
+
+    private static final int JOB = 2;
+    private static final int EXTRA = JOB + JobCardQueries.JOB_COLUMN_COUNT;
+
+    private final SavedJobRepository savedJobRepository;
+    private final AppliedJobRepository appliedJobRepository;
+    private final JsonMapper jsonMapper;
+
+    @Transactional(readOnly = true)
+    public Page<JobDTO> getSavedJobs(Pageable pageable, Long userId) {
+        Page<Long> rowIds = savedJobRepository.findIdsByUserId(userId, withDefaultSort(pageable, "savedAt"));
+        if (rowIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rowIds.getTotalElements());
+        }
+
+        Map<Long, JobDTO> byRowId = new HashMap<>();
+        for (Object[] row : savedJobRepository.findSavedJobCards(rowIds.getContent())) {
+            byRowId.computeIfAbsent(toLong(row[0]), id -> {
+                JobDTO dto = toJobDTO(row);
+                dto.setIsSaved(true);
+                dto.setIsApplied(row[EXTRA] != null);
+                if (row[EXTRA] != null) {
+                    dto.setApplicationStatus((String) row[EXTRA]);
+                    dto.setAppliedAt(NativeResults.toLocalDateTime(row[EXTRA + 1]));
+                }
+                return dto;
+            });
+        }
+        return new PageImpl<>(inPageOrder(rowIds, byRowId), pageable, rowIds.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<JobDTO> getAppliedJobs(List<AppliedJob.ApplicationStatus> statuses, Pageable pageable, Long userId) {
+        pageable = withDefaultSort(pageable, "appliedAt");
+        Page<Long> rowIds = (statuses != null && !statuses.isEmpty())
+                ? appliedJobRepository.findIdsByUserIdAndStatusIn(userId, statuses, pageable)
+                : appliedJobRepository.findIdsByUserId(userId, pageable);
+        if (rowIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rowIds.getTotalElements());
+        }
+
+        Map<Long, JobDTO> byRowId = new HashMap<>();
+        for (Object[] row : appliedJobRepository.findAppliedJobCards(rowIds.getContent())) {
+            byRowId.computeIfAbsent(toLong(row[0]), id -> {
+                JobDTO dto = toJobDTO(row);
+                dto.setIsApplied(true);
+                dto.setApplicationStatus((String) row[EXTRA]);
+                dto.setAppliedAt(NativeResults.toLocalDateTime(row[EXTRA + 1]));
+                dto.setIsSaved(row[EXTRA + 2] != null);
+                return dto;
+            });
+        }
+        return new PageImpl<>(inPageOrder(rowIds, byRowId), pageable, rowIds.getTotalElements());
+    }
+
+    /**
+     * Writes the user's whole pipeline (every saved or applied job, once, with both states) to
+     * {@code out}, latest activity first. Rows are streamed from one query, JobCardQueries.EXPORT_FETCH_SIZE
+     * per round trip, and written as they arrive, so memory stays flat however many jobs the user tracks.
+     */
+    @Transactional(readOnly = true)
+    public void exportPipeline(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        PipelineExportWriter export = new PipelineExportWriter(format, writer, jsonMapper);
+        export.writeHeader();
+        try (Stream<Object[]> rows = savedJobRepository.streamPipelineCards(userId)) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                JobDTO dto = toJobDTO(row);
+                dto.setIsSaved(row[EXTRA] != null);
+                dto.setIsApplied(row[EXTRA + 1] != null);
+                dto.setApplicationStatus((String) row[EXTRA + 1]);
+                dto.setAppliedAt(NativeResults.toLocalDateTime(row[EXTRA + 2]));
+                export.write(dto, NativeResults.toLocalDateTime(row[EXTRA]));
+            }
+        }
+        writer.flush();
+    }
+
+    // Unsorted callers get newest first
+    private static Pageable withDefaultSort(Pageable pageable, String property) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) return pageable;
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, property));
+    }
+
+    // The projection query returns rows grouped by job table; restore the page's sort order.
+    // Rows whose job no longer exists are dropped, as before.
+    private static List<JobDTO> inPageOrder(Page<Long> rowIds, Map<Long, JobDTO> byRowId) {
+        List<JobDTO> dtoList = new ArrayList<>(rowIds.getNumberOfElements());
+        for (Long rowId : rowIds) {
+            JobDTO dto = byRowId.get(rowId);
+            if (dto != null) dtoList.add(dto);
+        }
+        return dtoList;
+    }
+
+    // Maps JobCardQueries.JOB_COLUMNS, which start at index JOB
+    private static JobDTO toJobDTO(Object[] row) {
+        int i = JOB;
+        return JobDTO.builder()
+                .id(toLong(row[i++]))
+                .jobType(JobType.valueOf((String) row[1]))
+                .externalId((String) row[i++])
+                .jobCategory(toEnum(Job.JobCategory.class, row[i++]))
+                .source(toEnum(Job.Source.class, row[i++]))
+                .company((String) row[i++])
+                .companyLogo((String) row[i++])
+                .title((String) row[i++])
+                .location((String) row[i++])
+                .department((String) row[i++])
+                .employmentType(toEnum(Job.EmploymentType.class, row[i++]))
+                .descriptionSnippet(DescriptionSnippet.normalize((String) row[i++]))
+                .applyUrl((String) row[i++])
+                .postedAt(NativeResults.toLocalDateTime(row[i++]))
+                .isRemote((Boolean) row[i++])
+                .experienceLevel(toEnum(Job.ExperienceLevel.class, row[i++]))
+                .minSalary(toInteger(row[i++]))
+                .maxSalary(toInteger(row[i++]))
+                .isActive((Boolean) row[i++])
+                .createdAt(NativeResults.toLocalDateTime(row[i++]))
+                .updatedAt(NativeResults.toLocalDateTime(row[i]))
+                .build();
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private static <E extends Enum<E>> E toEnum(Class<E> type, Object value) {
+        return value != null ? Enum.valueOf(type, (String) value) : null;
+    }
+}
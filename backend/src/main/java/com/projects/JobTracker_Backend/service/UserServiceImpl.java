@@ -9,6 +9,8 @@ import com.projects.JobTracker_Backend.mapper.UserMapper;
 import com.projects.JobTracker_Backend.model.User;
 import com.projects.JobTracker_Backend.model.UserProfile;
 import com.projects.JobTracker_Backend.repository.UserRepository;
+import com.projects.JobTracker_Backend.security.UserStatusCache;
+import com.projects.JobTracker_Backend.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -27,6 +29,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatusCache userStatusCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -137,6 +140,8 @@ public class UserServiceImpl implements UserService {
 
         user.setUpdatedAt(LocalDateTime.now());
         User updatedUser = userRepository.save(user);
+        // The JWT filter reads account flags from this cache; drop the entry once the update is visible
+        AfterCommit.run(() -> userStatusCache.evict(id));
         return userMapper.toDTO(updatedUser);
     }
 
@@ -147,5 +152,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         userRepository.delete(user);
+        // Rejects the user's tokens right away rather than after the status TTL
+        AfterCommit.run(() -> userStatusCache.evict(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projects.JobTracker_Backend.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of each user's saved / applied / followed state, which job responses overlay on the jobs.
+ *
+ * A user's version changes after every committed change to that state, so it can go into ETags.
+ * Versions are handed out from one process-wide sequence and mixed with a random epoch: a user
+ * evicted from memory, or any user after a restart, gets a version never handed out before, so a
+ * client's old ETag can only miss, never match stale data.
+ */
+@Component
+public class UserStateVersions {
+
+    private final long epoch = new SecureRandom().nextLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${jobs.etag.max-users:10000}")
+    private long maxUsers;
+
+    private Cache<Long, Long> versions;
+
+    @PostConstruct
+    public void init() {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    public long get(Long userId) {
+        return epoch ^ versions.get(userId, id -> sequence.incrementAndGet());
+    }
+
+    /** Call on every change to the user's saved / applied / followed state; applied once the transaction commits. */
+    public void changed(Long userId) {
+        AfterCommit.run(() -> versions.put(userId, sequence.incrementAndGet()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.UserStatsDTO;
+import com.projects.JobTracker_Backend.model.AppliedJob;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of one user's dashboard counters.
+ * Loaded with a single aggregate query and then adjusted by each save / status write;
+ * {@code updates} and {@code loadedAtMillis} tell the owner when to reconcile with the database.
+ */
+public final class UserStatsCounters {
+
+    private static final AppliedJob.ApplicationStatus[] STATUSES = AppliedJob.ApplicationStatus.values();
+
+    private final long totalSaved;
+    private final long savedThisWeek;
+    private final long totalApplied;
+    private final long appliedThisWeek;
+    private final long[] statusCounts;
+    private final int updates;
+    private final long loadedAtMillis;
+
+    private UserStatsCounters(long totalSaved, long savedThisWeek, long totalApplied, long appliedThisWeek,
+                              long[] statusCounts, int updates, long loadedAtMillis) {
+        this.totalSaved = totalSaved;
+        this.savedThisWeek = savedThisWeek;
+        this.totalApplied = totalApplied;
+        this.appliedThisWeek = appliedThisWeek;
+        this.statusCounts = statusCounts;
+        this.updates = updates;
+        this.loadedAtMillis = loadedAtMillis;
+    }
+
+    public static UserStatsCounters loaded(long totalSaved, long savedThisWeek, long totalApplied,
+                                           long appliedThisWeek, long[] statusCounts, long loadedAtMillis) {
+        return new UserStatsCounters(totalSaved, savedThisWeek, totalApplied, appliedThisWeek,
+                statusCounts.clone(), 0, loadedAtMillis);
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    // ================== INCREMENTAL UPDATES ==================
+
+    public UserStatsCounters withSaved() {
+        return new UserStatsCounters(totalSaved + 1, savedThisWeek + 1, totalApplied, appliedThisWeek,
+                statusCounts, updates + 1, loadedAtMillis);
+    }
+
+    public UserStatsCounters withUnsaved(LocalDateTime savedAt, LocalDateTime weekAgo) {
+        long recent = isRecent(savedAt, weekAgo) ? 1 : 0;
+        return new UserStatsCounters(totalSaved - 1, savedThisWeek - recent, totalApplied, appliedThisWeek,
+                statusCounts, updates + 1, loadedAtMillis);
+    }
+
+    /**
+     * @param previous the status before this write, or null when the application is new
+     */
+    public UserStatsCounters withStatus(AppliedJob.ApplicationStatus previous, AppliedJob.ApplicationStatus status) {
+        long[] counts = statusCounts.clone();
+        counts[status.ordinal()]++;
+        if (previous != null) {
+            counts[previous.ordinal()]--;
+        }
+        long added = previous == null ? 1 : 0;
+        return new UserStatsCounters(totalSaved, savedThisWeek, totalApplied + added, appliedThisWeek + added,
+                counts, updates + 1, loadedAtMillis);
+    }
+
+    public UserStatsCounters withWithdrawn(AppliedJob.ApplicationStatus status, LocalDateTime appliedAt,
+                                           LocalDateTime weekAgo) {
+        long[] counts = statusCounts.clone();
+        counts[status.ordinal()]--;
+        long recent = isRecent(appliedAt, weekAgo) ? 1 : 0;
+        return new UserStatsCounters(totalSaved, savedThisWeek, totalApplied - 1, appliedThisWeek - recent,
+                counts, updates + 1, loadedAtMillis);
+    }
+
+    // ================== VIEW ==================
+
+    public UserStatsDTO toDTO() {
+        Map<String, Long> statusBreakdown = new LinkedHashMap<>();
+        for (AppliedJob.ApplicationStatus status : STATUSES) {
+            statusBreakdown.put(status.name(), Math.max(0, statusCounts[status.ordinal()]));
+        }
+
+        return UserStatsDTO.builder()
+                .totalSaved(Math.max(0, totalSaved))
+                .totalApplied(Math.max(0, totalApplied))
+                .applicationStatusBreakdown(statusBreakdown)
+                .recentActivity(UserStatsDTO.RecentActivityDTO.builder()
+                        .savedThisWeek(Math.max(0, savedThisWeek))
+                        .appliedThisWeek(Math.max(0, appliedThisWeek))
+                        .build())
+                .build();
+    }
+
+    private static boolean isRecent(LocalDateTime at, LocalDateTime weekAgo) {
+        return at != null && !at.isBefore(weekAgo);
+    }
+}
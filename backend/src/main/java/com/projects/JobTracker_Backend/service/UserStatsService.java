@@ -0,0 +1,118 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projects.JobTracker_Backend.dto.UserStatsDTO;
+import com.projects.JobTracker_Backend.model.AppliedJob;
+import com.projects.JobTracker_Backend.repository.AppliedJobRepository;
+import com.projects.JobTracker_Backend.util.AfterCommit;
+import com.projects.JobTracker_Backend.util.NativeResults;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Dashboard statistics backed by per-user counters.
+ *
+ * A cold user costs one conditional-aggregation query; after that the counters are adjusted by
+ * every save / unsave / status / withdraw, so reads are O(1). Counters can drift (concurrent writes
+ * racing a load, "this week" entries ageing out), so they are reconciled with the database after
+ * a number of updates or minutes, whichever comes first.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private static final AppliedJob.ApplicationStatus[] STATUSES = AppliedJob.ApplicationStatus.values();
+
+    private final AppliedJobRepository appliedJobRepository;
+
+    @Value("${stats.counters.reconcile-after-updates:50}")
+    private int reconcileAfterUpdates;
+    @Value("${stats.counters.reconcile-after-minutes:10}")
+    private long reconcileAfterMinutes;
+    @Value("${stats.counters.max-users:10000}")
+    private long maxUsers;
+
+    private Cache<Long, UserStatsCounters> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(reconcileAfterMinutes * 3, TimeUnit.MINUTES)
+                .build();
+    }
+
+    public UserStatsDTO getUserStats(Long userId) {
+        UserStatsCounters counters = cache.asMap().compute(userId,
+                (id, current) -> current == null || needsReconcile(current) ? load(id) : current);
+        return counters.toDTO();
+    }
+
+    // ================== WRITE-THROUGH ==================
+
+    public void recordSaved(Long userId) {
+        updateAfterCommit(userId, UserStatsCounters::withSaved);
+    }
+
+    public void recordUnsaved(Long userId, LocalDateTime savedAt) {
+        LocalDateTime weekAgo = weekAgo();
+        updateAfterCommit(userId, counters -> counters.withUnsaved(savedAt, weekAgo));
+    }
+
+    public void recordStatus(Long userId, AppliedJob.ApplicationStatus previous, AppliedJob.ApplicationStatus status) {
+        updateAfterCommit(userId, counters -> counters.withStatus(previous, status));
+    }
+
+    public void recordWithdrawn(Long userId, AppliedJob.ApplicationStatus status, LocalDateTime appliedAt) {
+        LocalDateTime weekAgo = weekAgo();
+        updateAfterCommit(userId, counters -> counters.withWithdrawn(status, appliedAt, weekAgo));
+    }
+
+    // Users not in memory are left alone; their next read loads fresh counters
+    private void updateAfterCommit(Long userId, UnaryOperator<UserStatsCounters> update) {
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(userId, (id, counters) -> update.apply(counters)));
+    }
+
+    // ================== RECONCILIATION ==================
+
+    private boolean needsReconcile(UserStatsCounters counters) {
+        return counters.getUpdates() >= reconcileAfterUpdates
+                || System.currentTimeMillis() - counters.getLoadedAtMillis()
+                        >= TimeUnit.MINUTES.toMillis(reconcileAfterMinutes);
+    }
+
+    private UserStatsCounters load(Long userId) {
+        List<Object[]> rows = appliedJobRepository.findUserStats(userId, weekAgo());
+
+        long applied = 0;
+        long appliedSince = 0;
+        long[] statusCounts = new long[STATUSES.length];
+        for (Object[] row : rows) {
+            if (row[2] == null) continue;
+            long count = NativeResults.toLong(row[3]);
+            statusCounts[AppliedJob.ApplicationStatus.valueOf(row[2].toString()).ordinal()] = count;
+            applied += count;
+            appliedSince += NativeResults.toLong(row[4]);
+        }
+        Object[] first = rows.get(0);
+        return UserStatsCounters.loaded(
+                NativeResults.toLong(first[0]),
+                NativeResults.toLong(first[1]),
+                applied,
+                appliedSince,
+                statusCounts,
+                System.currentTimeMillis());
+    }
+
+    private static LocalDateTime weekAgo() {
+        return LocalDateTime.now().minusWeeks(1);
+    }
+}
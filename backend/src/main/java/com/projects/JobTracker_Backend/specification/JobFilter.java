@@ -0,0 +1,56 @@
+package com.projects.JobTracker_Backend.specification;
+
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * The filters of a job listing (/api/jobs/filter, /intern and /fulltime), shared by the three job
+ * tables. Enum filters hold the constants of the listed table's own enums; a null or empty list
+ * leaves that filter unset. See {@link JobSpecification#filterJobs} for how each one matches.
+ */
+@Builder
+public record JobFilter(
+        List<String> keywords,
+        List<?> categories,
+        List<String> locations,
+        List<?> employmentTypes,
+        List<?> experienceLevels,
+        Boolean isRemote,
+        Integer minSalary,
+        Integer maxSalary,
+        List<String> companies,
+        List<?> sources,
+        List<String> positions,
+        List<String> skills,
+        Double locationSimilarity
+) {
+
+    /** No filter at all: every active job. */
+    public static final JobFilter NONE = JobFilter.builder().build();
+
+    public boolean hasKeywords() {
+        return keywords != null && !keywords.isEmpty();
+    }
+
+    /** Whether any filter other than keywords is set. */
+    public boolean hasFilters() {
+        return JobSpecification.hasFilters(categories, locations, employmentTypes, experienceLevels,
+                isRemote, minSalary, maxSalary, companies, sources, positions, skills);
+    }
+
+    /**
+     * Whether locations also match by trigram similarity; the caller sets the threshold on its
+     * transaction first.
+     */
+    public boolean fuzzyLocations() {
+        return locationSimilarity != null && locations != null && !locations.isEmpty();
+    }
+
+    /** Every filter but the keywords, which keyword search resolves on its own. */
+    public <T> Specification<T> withoutKeywords() {
+        return JobSpecification.filterJobs(null, categories, locations, employmentTypes, experienceLevels,
+                isRemote, minSalary, maxSalary, companies, sources, positions, skills, fuzzyLocations());
+    }
+}
@@ -1,11 +1,23 @@
 package com.projects.JobTracker_Backend.specification;
 
+import com.projects.JobTracker_Backend.config.PostgresFunctionContributor;
+import com.projects.JobTracker_Backend.enums.JobType;
 import com.projects.JobTracker_Backend.model.Job;
+import com.projects.JobTracker_Backend.model.JobSkill;
+import com.projects.JobTracker_Backend.search.SkillDictionary;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class JobSpecification {
 
@@ -22,6 +34,31 @@ public class JobSpecification {
             List<?> sources,
             List<String> positions,
             List<String> skills
+    ) {
+        return filterJobs(keywords, categories, locations, employmentTypes, experienceLevels,
+                isRemote, minSalary, maxSalary, companies, sources, positions, skills, false);
+    }
+
+    /**
+     * Location, company and position filters are lower(col) LIKE '%x%', served by the lower(col)
+     * trigram indexes from scripts/setup_trigram_indexes.js. With {@code fuzzyLocations} a location
+     * also matches by trigram word similarity (e.g. "banglore" finds "Bangalore, India"); the threshold
+     * is pg_trgm.word_similarity_threshold of the current transaction.
+     */
+    public static <T> Specification<T> filterJobs(
+            List<String> keywords,
+            List<?> categories,
+            List<String> locations,
+            List<?> employmentTypes,
+            List<?> experienceLevels,
+            Boolean isRemote,
+            Integer minSalary,
+            Integer maxSalary,
+            List<String> companies,
+            List<?> sources,
+            List<String> positions,
+            List<String> skills,
+            boolean fuzzyLocations
     ) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -31,19 +68,7 @@ public class JobSpecification {
 
             // Keywords (OR within keywords, searches title, description, company)
             if (keywords != null && !keywords.isEmpty()) {
-                List<Predicate> keywordPredicates = new ArrayList<>();
-                for (String keyword : keywords) {
-                    String likePattern = "%" + keyword.toLowerCase() + "%";
-                    Predicate titleMatch = criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("title")), likePattern);
-                    Predicate descMatch = criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("description")), likePattern);
-                    Predicate companyMatch = criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("company")), likePattern);
-
-                    keywordPredicates.add(criteriaBuilder.or(titleMatch, descMatch, companyMatch));
-                }
-                predicates.add(criteriaBuilder.or(keywordPredicates.toArray(new Predicate[0])));
+                predicates.add(keywordPredicate(keywords, root, criteriaBuilder));
             }
 
             // Categories (OR within categories)
@@ -55,9 +80,15 @@ public class JobSpecification {
             if (locations != null && !locations.isEmpty()) {
                 List<Predicate> locationPredicates = new ArrayList<>();
                 for (String location : locations) {
-                    locationPredicates.add(criteriaBuilder.like(
-                            criteriaBuilder.lower(root.get("location")),
-                            "%" + location.toLowerCase() + "%"));
+                    Expression<String> column = criteriaBuilder.lower(root.get("location"));
+                    String term = location.toLowerCase();
+                    Predicate match = criteriaBuilder.like(column, "%" + term + "%");
+                    if (fuzzyLocations) {
+                        match = criteriaBuilder.or(match, criteriaBuilder.isTrue(criteriaBuilder.function(
+                                PostgresFunctionContributor.WORD_SIMILAR, Boolean.class,
+                                criteriaBuilder.literal(term), column)));
+                    }
+                    locationPredicates.add(match);
                 }
                 predicates.add(criteriaBuilder.or(locationPredicates.toArray(new Predicate[0])));
             }
@@ -77,12 +108,16 @@ public class JobSpecification {
                 predicates.add(criteriaBuilder.equal(root.get("isRemote"), isRemote));
             }
 
-            // Salary filters
+            // Salary filters: the job's normalized range overlaps [minSalary, maxSalary];
+            // jobs without a salary never match (served by idx_<table>_salary_range)
+            if (minSalary != null || maxSalary != null) {
+                predicates.add(criteriaBuilder.isTrue(root.get("salaryKnown")));
+            }
             if (minSalary != null) {
-                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("maxSalary"), minSalary));
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("salaryCeiling"), minSalary));
             }
             if (maxSalary != null) {
-                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("minSalary"), maxSalary));
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("salaryFloor"), maxSalary));
             }
 
             // Companies (OR within companies, case-insensitive partial match)
@@ -112,10 +147,17 @@ public class JobSpecification {
                 predicates.add(criteriaBuilder.or(positionPredicates.toArray(new Predicate[0])));
             }
 
-            // Skills (OR within skills)
+            // Skills (OR within skills): dictionary skills through the job_skills tags,
+            // any other skill by LIKE on title and description
             if (skills != null && !skills.isEmpty()) {
                 List<Predicate> skillPredicates = new ArrayList<>();
+                Set<Integer> skillIds = new HashSet<>();
                 for (String skill : skills) {
+                    Integer skillId = SkillDictionary.getDefault().idOf(skill);
+                    if (skillId != null) {
+                        skillIds.add(skillId);
+                        continue;
+                    }
                     String likePattern = "%" + skill.trim().toLowerCase() + "%";
                     Predicate titleMatch = criteriaBuilder.like(
                             criteriaBuilder.lower(root.get("title")), likePattern);
@@ -123,10 +165,97 @@ public class JobSpecification {
                             criteriaBuilder.lower(root.get("description")), likePattern);
                     skillPredicates.add(criteriaBuilder.or(titleMatch, descMatch));
                 }
+                if (!skillIds.isEmpty()) {
+                    Subquery<Long> tagged = query.subquery(Long.class);
+                    Root<JobSkill> jobSkill = tagged.from(JobSkill.class);
+                    tagged.select(jobSkill.get("jobId")).where(
+                            criteriaBuilder.equal(jobSkill.get("jobType"), JobType.fromEntityClass(root.getJavaType())),
+                            jobSkill.get("skillId").in(skillIds));
+                    skillPredicates.add(root.get("id").in(tagged));
+                }
                 predicates.add(criteriaBuilder.or(skillPredicates.toArray(new Predicate[0])));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Active jobs matching any of the keywords in title, description or company (LIKE scan).
+     * Used when the in-memory keyword index cannot serve a search.
+     */
+    public static <T> Specification<T> matchesKeywords(List<String> keywords) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.isTrue(root.get("isActive")),
+                keywordPredicate(keywords, root, criteriaBuilder));
+    }
+
+    /**
+     * Jobs after ({@code postedAt}, {@code id}) in the order postedAt, id (both ascending or both
+     * descending), for keyset pagination. PostgreSQL sorts null postedAt as larger than any time, so
+     * they come first in a descending feed and last in an ascending one; the seek follows that order,
+     * as do the keyword search paths (see SearchHit.toMillis).
+     * Served by idx_<table>_active_posted_id.
+     */
+    public static <T> Specification<T> after(LocalDateTime postedAt, long id, boolean ascending) {
+        return (root, query, criteriaBuilder) -> {
+            Expression<LocalDateTime> posted = root.get("postedAt");
+            Expression<Long> jobId = root.get("id");
+            Predicate nextId = ascending ? criteriaBuilder.greaterThan(jobId, id) : criteriaBuilder.lessThan(jobId, id);
+
+            if (postedAt == null) {
+                Predicate samePosted = criteriaBuilder.and(criteriaBuilder.isNull(posted), nextId);
+                return ascending ? samePosted : criteriaBuilder.or(samePosted, criteriaBuilder.isNotNull(posted));
+            }
+            Predicate laterPosted = ascending
+                    ? criteriaBuilder.greaterThan(posted, postedAt)
+                    : criteriaBuilder.lessThan(posted, postedAt);
+            Predicate samePosted = criteriaBuilder.and(criteriaBuilder.equal(posted, postedAt), nextId);
+            return ascending
+                    ? criteriaBuilder.or(laterPosted, samePosted, criteriaBuilder.isNull(posted))
+                    : criteriaBuilder.or(laterPosted, samePosted);
+        };
+    }
+
+    /**
+     * Whether any filter other than keywords is set, i.e. whether filterJobs(...) with the same
+     * arguments restricts the result beyond "active".
+     */
+    public static boolean hasFilters(
+            List<?> categories,
+            List<String> locations,
+            List<?> employmentTypes,
+            List<?> experienceLevels,
+            Boolean isRemote,
+            Integer minSalary,
+            Integer maxSalary,
+            List<String> companies,
+            List<?> sources,
+            List<String> positions,
+            List<String> skills
+    ) {
+        return isSet(categories) || isSet(locations) || isSet(employmentTypes) || isSet(experienceLevels)
+                || isRemote != null || minSalary != null || maxSalary != null
+                || isSet(companies) || isSet(sources) || isSet(positions) || isSet(skills);
+    }
+
+    private static boolean isSet(Collection<?> values) {
+        return values != null && !values.isEmpty();
+    }
+
+    private static Predicate keywordPredicate(List<String> keywords, Root<?> root, CriteriaBuilder criteriaBuilder) {
+        List<Predicate> keywordPredicates = new ArrayList<>();
+        for (String keyword : keywords) {
+            String likePattern = "%" + keyword.toLowerCase() + "%";
+            Predicate titleMatch = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("title")), likePattern);
+            Predicate descMatch = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("description")), likePattern);
+            Predicate companyMatch = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("company")), likePattern);
+
+            keywordPredicates.add(criteriaBuilder.or(titleMatch, descMatch, companyMatch));
+        }
+        return criteriaBuilder.or(keywordPredicates.toArray(new Predicate[0]));
+    }
 }
\ No newline at end of file
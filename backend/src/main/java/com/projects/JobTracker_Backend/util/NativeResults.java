@@ -0,0 +1,36 @@
+package com.projects.JobTracker_Backend.util;
+
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Conversions for untyped native query columns, whose Java type depends on the driver.
+ */
+public final class NativeResults {
+
+    private NativeResults() {
+    }
+
+    public static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) return timestamp.toLocalDateTime();
+        return (LocalDateTime) value;
+    }
+
+    public static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    // Large text columns may come back as a Clob depending on the column definition
+    public static String toText(Object value) {
+        if (value instanceof Clob clob) {
+            try {
+                return clob.getSubString(1, (int) clob.length());
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to read text column", e);
+            }
+        }
+        return (String) value;
+    }
+}
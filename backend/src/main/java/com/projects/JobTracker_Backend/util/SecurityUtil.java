@@ -2,6 +2,7 @@ package com.projects.JobTracker_Backend.util;
 
 import com.projects.JobTracker_Backend.model.User;
 import com.projects.JobTracker_Backend.repository.UserRepository;
+import com.projects.JobTracker_Backend.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,20 +15,34 @@ public class SecurityUtil {
 
     private final UserRepository userRepository;
 
+    /**
+     * Get the authenticated principal built from the JWT - no database access.
+     * Prefer this over {@link #getCurrentUser()} unless the full User entity is needed.
+     * @return UserPrincipal
+     * @throws RuntimeException if user is not authenticated
+     */
+    public UserPrincipal getCurrentPrincipal() {
+        Object principal = getAuthentication().getPrincipal();
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return userPrincipal;
+        }
+        throw new RuntimeException("Invalid authentication principal type: " + principal.getClass().getName());
+    }
+
     /**
      * Get the currently authenticated user from SecurityContext
      * @return User object
      * @throws RuntimeException if user is not authenticated
      */
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Object principal = getAuthentication().getPrincipal();
 
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("User is not authenticated");
+        // Case 0: Principal built from the JWT - load by primary key
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return userRepository.findById(userPrincipal.getId())
+                    .orElseThrow(() -> new RuntimeException("User not found with id: " + userPrincipal.getId()));
         }
 
-        Object principal = authentication.getPrincipal();
-
         // Case 1: Principal is already a User entity
         if (principal instanceof User) {
             return (User) principal;
@@ -58,7 +73,7 @@ public class SecurityUtil {
      * @return User ID
      */
     public Long getCurrentUserId() {
-        return getCurrentUser().getId();
+        return getCurrentPrincipal().getId();
     }
 
     /**
@@ -68,4 +83,13 @@ public class SecurityUtil {
     public String getCurrentUserEmail() {
         return getCurrentUser().getEmail();
     }
+
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User is not authenticated");
+        }
+        return authentication;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.projects.JobTracker_Backend.config;
+
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.Job;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost and size of one {@code Page<JobDTO>} listing response as JSON, Smile and CBOR, written with the
+ * mappers BinaryFormatsConfig builds (Blackbird included; JSON as Spring Boot configures it, with
+ * Blackbird). The encoded size of a page is reported next to the time, as the {@code bytes} counter.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.projects.JobTracker_Backend.config.BinaryFormatsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatsBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper mapper;
+    private Page<JobDTO> page;
+
+    @Setup
+    public void setUp() {
+        BinaryFormatsConfig config = new BinaryFormatsConfig();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("blackbirdModule", config.blackbirdModule()));
+        ObjectProvider<JacksonModule> modules = beans.getBeanProvider(JacksonModule.class);
+        mapper = switch (format) {
+            case "json" -> JsonMapper.builder().addModule(config.blackbirdModule()).build();
+            case "smile" -> config.smileHttpMessageConverter(modules).getMapper();
+            case "cbor" -> config.cborHttpMessageConverter(modules).getMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+
+        List<JobDTO> jobs = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            jobs.add(job(i));
+        }
+        page = new PageImpl<>(jobs, PageRequest.of(0, pageSize), 12_345);
+    }
+
+    @Benchmark
+    public byte[] write(Size size) {
+        byte[] encoded = mapper.writeValueAsBytes(page);
+        size.bytes = encoded.length;
+        return encoded;
+    }
+
+    /** Encoded size of the page, as a secondary result of {@link #write}. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long bytes;
+    }
+
+    // A listing row: snippet instead of description, a few unset optional fields, user fields for a signed-in user
+    private static JobDTO job(int i) {
+        Job.Source[] sources = Job.Source.values();
+        Job.ExperienceLevel[] levels = Job.ExperienceLevel.values();
+        LocalDateTime postedAt = LocalDateTime.of(2026, 9, 1, 8, 0).plusMinutes(37L * i);
+        return JobDTO.builder()
+                .id(100_000L + i)
+                .jobType(JobType.GENERAL)
+                .externalId("ext-" + (900_000 + i))
+                .jobCategory(Job.JobCategory.DISCOVER)
+                .source(sources[i % sources.length])
+                .company("Company " + (i % 7))
+                .companyLogo(i % 3 == 0 ? null : "https://logo.example.com/company-" + (i % 7) + ".png")
+                .title((i % 2 == 0 ? "Senior Backend Engineer " : "Frontend Developer ") + i)
+                .location(i % 4 == 0 ? "Remote" : "Bengaluru, Karnataka, India")
+                .department(i % 5 == 0 ? null : "Engineering")
+                .employmentType(Job.EmploymentType.FULL_TIME)
+                .descriptionSnippet("We are looking for an engineer to build and run the services behind our "
+                        + "platform. You will work with Java, Spring Boot, PostgreSQL and Kafka on a small team "
+                        + "that owns its")
+                .applyUrl("https://jobs.example.com/apply/" + (900_000 + i))
+                .postedAt(postedAt)
+                .isRemote(i % 4 == 0)
+                .experienceLevel(i % 6 == 0 ? null : levels[i % levels.length])
+                .minSalary(i % 3 == 0 ? null : 1_200_000 + 10_000 * i)
+                .maxSalary(i % 3 == 0 ? null : 2_400_000 + 10_000 * i)
+                .isActive(true)
+                .createdAt(postedAt.plusHours(1))
+                .updatedAt(postedAt.plusHours(2))
+                .skills(List.of("java", "spring", "postgresql"))
+                .isSaved(i % 5 == 0)
+                .isApplied(false)
+                .isFollowed(false)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BinaryFormatsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
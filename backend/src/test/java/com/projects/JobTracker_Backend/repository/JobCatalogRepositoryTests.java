@@ -0,0 +1,108 @@
+package com.projects.JobTracker_Backend.repository;
+
+import com.projects.JobTracker_Backend.config.CacheConfig;
+import com.projects.JobTracker_Backend.dto.JobSummaryDTO;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.DescriptionSnippet;
+import com.projects.JobTracker_Backend.model.Job;
+import com.projects.JobTracker_Backend.model.JobSkill;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+@Import({JobCatalogRepository.class, CacheConfig.class})
+class JobCatalogRepositoryTests {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JobCatalogRepository jobCatalogRepository;
+
+    @Test
+    void summariesCarryTheSnippetInsteadOfTheDescription() {
+        Job job = newJob(1, "  Build\n\n  services\tin Java.\r\n" + "x".repeat(300));
+        entityManager.persist(job);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<JobSummaryDTO> summaries = jobCatalogRepository.findSummaries(
+                Job.class, Specification.unrestricted(), Sort.by("id"), 0, 10);
+
+        assertEquals(1, summaries.size());
+        JobSummaryDTO summary = summaries.get(0);
+        assertEquals(JobType.GENERAL, summary.getJobType());
+        assertEquals("Build services in Java. " + "x".repeat(DescriptionSnippet.LENGTH - 28), summary.getDescriptionSnippet());
+    }
+
+    @Test
+    void summariesArePagedInSortOrder() {
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(newJob(i, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<JobSummaryDTO> summaries = jobCatalogRepository.findSummaries(
+                Job.class, Specification.unrestricted(), Sort.by(Sort.Direction.DESC, "title"), 1, 2);
+
+        assertEquals(List.of("Job 3", "Job 2"), summaries.stream().map(JobSummaryDTO::getTitle).toList());
+        assertEquals("", summaries.get(0).getDescriptionSnippet());
+        assertEquals(5, jobCatalogRepository.count(Job.class, Specification.unrestricted()));
+    }
+
+    @Test
+    void staleSkillTagsAreThoseOfInactiveMissingOrNewerJobs() {
+        Job active = newJob(1, null);
+        Job inactive = newJob(2, null);
+        inactive.setIsActive(false);
+        Job newer = newJob(3, null);
+        entityManager.persist(active);
+        entityManager.persist(inactive);
+        entityManager.persist(newer);
+        long maxId = inactive.getId();
+        for (long jobId : List.of(active.getId(), inactive.getId(), newer.getId(), newer.getId() + 100)) {
+            entityManager.persist(new JobSkill(JobType.GENERAL, jobId, 1));
+        }
+        entityManager.persist(new JobSkill(JobType.INTERN, inactive.getId(), 1));
+        entityManager.flush();
+
+        assertEquals(3, jobCatalogRepository.deleteStaleSkillTags(JobType.GENERAL, maxId));
+        entityManager.clear();
+
+        assertEquals(List.of(active.getId(), inactive.getId()), entityManager.createQuery(
+                        "SELECT s.jobId FROM JobSkill s ORDER BY s.jobType, s.jobId", Long.class)
+                .getResultList());
+    }
+
+    @Test
+    void normalizeCollapsesWhitespaceRuns() {
+        assertEquals("a b c", DescriptionSnippet.normalize("  a \t\n b   c  "));
+        assertEquals("", DescriptionSnippet.normalize(" \n "));
+        assertNull(DescriptionSnippet.normalize(null));
+    }
+
+    private static Job newJob(int i, String description) {
+        Job job = new Job();
+        job.setJobCategory(Job.JobCategory.DISCOVER);
+        job.setSource(Job.Source.OTHER);
+        job.setCompany("Company " + i);
+        job.setTitle("Job " + i);
+        job.setDescription(description);
+        job.setApplyUrl("https://example.com/jobs/" + i);
+        return job;
+    }
+}
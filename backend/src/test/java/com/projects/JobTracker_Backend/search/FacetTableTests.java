@@ -0,0 +1,98 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FacetTableTests {
+
+    @Test
+    void partialMatchFacetsMatchSubstringsCaseInsensitively() {
+        FacetTable table = table();
+
+        FacetCounts counts = table.count(Map.of(Facet.LOCATION, List.of("BANGALORE")), null, 10);
+
+        // "Bangalore" and "Bangalore, India" both contain the term
+        assertEquals(3, counts.total());
+        assertArrayEquals(new int[]{1, 2, 4}, table.match(Map.of(Facet.LOCATION, List.of("bangalore")), null).toArray());
+        assertEquals(Map.of("Acme", 2L, "Globex", 1L), counts.counts().get(Facet.COMPANY));
+    }
+
+    @Test
+    void selectionDoesNotHideSiblingsOfItsOwnFacet() {
+        FacetTable table = table();
+
+        FacetCounts counts = table.count(Map.of(Facet.COMPANY, List.of("acme")), null, 10);
+
+        assertEquals(2, counts.total());
+        assertEquals(Map.of("Acme", 2L, "Globex", 2L, "Initech", 1L), counts.counts().get(Facet.COMPANY));
+        assertEquals(Map.of("Bangalore", 2L), counts.counts().get(Facet.LOCATION));
+    }
+
+    @Test
+    void exactFacetsMatchWholeValues() {
+        FacetTable table = table();
+
+        FacetCounts counts = table.count(Map.of(Facet.EMPLOYMENT_TYPE, List.of("full")), null, 10);
+
+        assertEquals(0, counts.total());
+        assertEquals(3, table.count(Map.of(Facet.EMPLOYMENT_TYPE, List.of("full_time")), null, 10).total());
+    }
+
+    @Test
+    void partialMatchFacetsKeepTheirTopValues() {
+        FacetTable table = table();
+
+        Map<String, Long> companies = table.count(Map.of(), null, 1).counts().get(Facet.COMPANY);
+
+        assertEquals(Map.of("Acme", 2L), companies);
+        // Exact facets keep every value
+        assertEquals(2, table.count(Map.of(), null, 1).counts().get(Facet.EMPLOYMENT_TYPE).size());
+    }
+
+    @Test
+    void restrictionAndRemovalNarrowTheCounts() {
+        FacetTable table = table();
+        table.delete(2);
+
+        FacetCounts counts = table.count(Map.of(), RoaringBitmap.bitmapOf(1, 2, 3), 10);
+
+        assertEquals(2, counts.total());
+        assertEquals(Map.of("Acme", 1L, "Globex", 1L), counts.counts().get(Facet.COMPANY));
+        assertFalse(table.contains(2));
+        assertEquals(4, table.liveCount());
+    }
+
+    @Test
+    void replacingAJobMovesItBetweenBuckets() {
+        FacetTable table = table();
+        table.add(3, row("Acme", "Pune", "FULL_TIME"));
+
+        FacetCounts counts = table.count(Map.of(), null, 10);
+
+        assertEquals(5, counts.total());
+        assertEquals(Map.of("Acme", 3L, "Globex", 1L, "Initech", 1L), counts.counts().get(Facet.COMPANY));
+        assertEquals(Map.of("Bangalore", 2L, "Pune", 2L, "Bangalore, India", 1L), counts.counts().get(Facet.LOCATION));
+    }
+
+    private static FacetTable table() {
+        FacetTable table = new FacetTable();
+        table.add(1, row("Acme", "Bangalore", "FULL_TIME"));
+        table.add(2, row("acme", "bangalore", "INTERNSHIP"));
+        table.add(3, row("Globex", "Pune", "FULL_TIME"));
+        table.add(4, row("Globex", "Bangalore, India", "FULL_TIME"));
+        table.add(5, row("Initech", "Pune", "INTERNSHIP"));
+        return table;
+    }
+
+    // Columns in Facet order
+    private static Object[] row(String company, String location, String employmentType) {
+        return new Object[]{"DISCOVER", employmentType, null, "LINKEDIN", false, company, location};
+    }
+}
@@ -0,0 +1,54 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PostingsListTests {
+
+    @Test
+    void cursorReturnsPostingsInOrder() {
+        PostingsList list = new PostingsList();
+        list.add(0, 1);
+        list.add(5, 300);
+        list.add(1_000_000, 2);
+
+        assertEquals(List.of(List.of(0, 1), List.of(5, 300), List.of(1_000_000, 2)), read(list));
+        assertEquals(3, list.size());
+        assertEquals(1_000_000, list.lastDoc());
+    }
+
+    @Test
+    void remapDropsRemovedDocumentsAndRenumbers() {
+        PostingsList list = new PostingsList();
+        list.add(1, 3);
+        list.add(2, 1);
+        list.add(4, 2);
+
+        PostingsList remapped = list.remap(new int[]{-1, 0, -1, -1, 1});
+
+        assertEquals(List.of(List.of(0, 3), List.of(1, 2)), read(remapped));
+        assertEquals(2, remapped.size());
+    }
+
+    @Test
+    void remapReturnsNullWhenNothingIsLeft() {
+        PostingsList list = new PostingsList();
+        list.add(0, 1);
+
+        assertNull(list.remap(new int[]{-1}));
+    }
+
+    private static List<List<Integer>> read(PostingsList list) {
+        List<List<Integer>> postings = new ArrayList<>();
+        PostingsList.Cursor cursor = list.cursor();
+        while (cursor.next()) {
+            postings.add(List.of(cursor.doc(), cursor.frequency()));
+        }
+        return postings;
+    }
+}
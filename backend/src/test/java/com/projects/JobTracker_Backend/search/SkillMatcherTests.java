@@ -0,0 +1,61 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SkillMatcherTests {
+
+    private static final int JAVA = 1;
+    private static final int JAVASCRIPT = 2;
+    private static final int SPRING_BOOT = 3;
+    private static final int SPRING = 4;
+    private static final int CPP = 5;
+    private static final int GO = 6;
+
+    private final SkillMatcher matcher = new SkillMatcher(Map.of(
+            "java", JAVA,
+            "javascript", JAVASCRIPT,
+            "spring boot", SPRING_BOOT,
+            "spring", SPRING,
+            "c++", CPP,
+            "go", GO));
+
+    @Test
+    void termsMatchOnlyAsWholeWords() {
+        assertEquals(Set.of(JAVASCRIPT), matcher.match("Senior JavaScript developer"));
+        assertEquals(Set.of(JAVA), matcher.match("Java, Kotlin"));
+        assertEquals(Set.of(), matcher.match("javas and java2 and myjava"));
+        assertEquals(Set.of(), matcher.match("Good communication, algorithms"));
+    }
+
+    @Test
+    void overlappingTermsAllMatch() {
+        assertEquals(Set.of(JAVA, JAVASCRIPT), matcher.match("java/javascript"));
+        assertEquals(Set.of(SPRING, SPRING_BOOT), matcher.match("Experience with Spring Boot"));
+        assertEquals(Set.of(SPRING), matcher.match("Spring Batch"));
+    }
+
+    @Test
+    void termsMayEndInPunctuation() {
+        assertEquals(Set.of(CPP, GO), matcher.match("C++ or Go."));
+    }
+
+    @Test
+    void matchesAnywhereInTheText() {
+        assertEquals(Set.of(GO), matcher.match("go"));
+        assertEquals(Set.of(JAVA, GO), matcher.match("We use go (and java)"));
+        assertEquals(Set.of(), matcher.match(""));
+        assertEquals(Set.of(), matcher.match(null));
+    }
+
+    @Test
+    void failureLinksRecoverFromPartialMatches() {
+        // "javascrip" runs deep into the javascript branch before falling back
+        assertEquals(Set.of(JAVA), matcher.match("javascrip java"));
+        assertEquals(Set.of(SPRING), matcher.match("spring bootstrap"));
+    }
+}
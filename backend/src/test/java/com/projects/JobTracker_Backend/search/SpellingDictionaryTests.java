@@ -0,0 +1,62 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpellingDictionaryTests {
+
+    private final SpellingDictionary dictionary = SpellingDictionary.build(Map.of(
+            "java", 50L,
+            "javascript", 10L,
+            "python", 5L,
+            "pythan", 1L,
+            "kubernetes", 8L));
+
+    @Test
+    void correctsWithinTheEditDistance() {
+        assertEquals("javascript", dictionary.closest("javscript", 2));
+        assertEquals("java", dictionary.closest("jaav", 2));
+        assertEquals("kubernetes", dictionary.closest("kuberentes", 2));
+        assertNull(dictionary.closest("rust", 2));
+    }
+
+    @Test
+    void maxDistanceBoundsTheCorrection() {
+        assertNull(dictionary.closest("jv", 1));
+        assertEquals("java", dictionary.closest("jv", 2));
+        // Capped at MAX_DISTANCE, however large the request
+        assertNull(dictionary.closest("jxvxsxript", 5));
+    }
+
+    @Test
+    void tiesGoToTheMoreFrequentThenTheAlphabeticallyFirstTerm() {
+        assertEquals("python", dictionary.closest("pythn", 2));
+
+        SpellingDictionary even = SpellingDictionary.build(Map.of("python", 3L, "pythan", 3L));
+        assertEquals("pythan", even.closest("pythn", 2));
+    }
+
+    @Test
+    void knowsTermsAndTheirPrefixes() {
+        assertTrue(dictionary.knows("java"));
+        assertTrue(dictionary.knows("javas"));
+        assertTrue(dictionary.knows("kube"));
+        assertFalse(dictionary.knows("javab"));
+        assertFalse(dictionary.knows("zzz"));
+        assertEquals(5, dictionary.size());
+    }
+
+    @Test
+    void distanceCountsTranspositionsAsOneEdit() {
+        assertEquals(3, SpellingDictionary.distance("kitten", "sitting", 10));
+        assertEquals(1, SpellingDictionary.distance("ab", "ba", 10));
+        assertEquals(0, SpellingDictionary.distance("go", "go", 10));
+        assertEquals(2, SpellingDictionary.distance("abc", "xyz", 2));
+    }
+}
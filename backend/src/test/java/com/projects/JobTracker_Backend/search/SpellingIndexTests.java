@@ -0,0 +1,68 @@
+package com.projects.JobTracker_Backend.search;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.repository.JobCatalogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class SpellingIndexTests {
+
+    @Test
+    void correctsWordsTheKeywordIndexDoesNotHave() {
+        JobSearchIndex jobSearchIndex = Mockito.mock(JobSearchIndex.class);
+        when(jobSearchIndex.hasTerm(any(), anyString())).thenReturn(Optional.of(false));
+
+        SpellingCorrection correction = spellingIndex(jobSearchIndex).correct(JobType.GENERAL, List.of("Developper"));
+
+        assertEquals(List.of("developer"), correction.keywords());
+        assertEquals(Map.of("developper", "developer"), correction.corrections());
+    }
+
+    @Test
+    void keepsWordsTheKeywordIndexHas() {
+        JobSearchIndex jobSearchIndex = Mockito.mock(JobSearchIndex.class);
+        when(jobSearchIndex.hasTerm(any(), anyString())).thenReturn(Optional.of(true));
+
+        SpellingCorrection correction = spellingIndex(jobSearchIndex).correct(JobType.GENERAL, List.of("developper"));
+
+        assertEquals(List.of("developper"), correction.keywords());
+        assertEquals(Map.of(), correction.corrections());
+    }
+
+    @Test
+    void keepsWordsWhileKeywordSearchIsNotServedFromMemory() {
+        // search.keyword-mode=fulltext: the index is never loaded and cannot tell description words apart
+        JobSearchIndex jobSearchIndex = new JobSearchIndex(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jobSearchIndex, "keywordMode", "fulltext");
+
+        SpellingCorrection correction = spellingIndex(jobSearchIndex).correct(JobType.GENERAL, List.of("develops", "developper"));
+
+        assertEquals(List.of("develops", "developper"), correction.keywords());
+        assertEquals(Map.of(), correction.corrections());
+    }
+
+    private static SpellingIndex spellingIndex(JobSearchIndex jobSearchIndex) {
+        JobCatalogRepository jobCatalogRepository = Mockito.mock(JobCatalogRepository.class);
+        when(jobCatalogRepository.findActiveValueCounts("title")).thenReturn(List.<Object[]>of(
+                new Object[]{"GENERAL", "Backend Developer", 12L},
+                new Object[]{"GENERAL", "Data Engineer", 4L}));
+
+        SpellingIndex spellingIndex = new SpellingIndex(jobCatalogRepository, jobSearchIndex, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(spellingIndex, "enabled", true);
+        spellingIndex.init();
+        ReflectionTestUtils.invokeMethod(spellingIndex, "rebuild");
+        spellingIndex.shutdown();
+        return spellingIndex;
+    }
+}
@@ -0,0 +1,56 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionDictionaryTests {
+
+    private final SuggestionDictionary dictionary = SuggestionDictionary.build(Map.of(
+            "Senior Backend Engineer", 30L,
+            "Backend Developer", 50L,
+            "Frontend Engineer", 20L,
+            "Data Engineer", 40L,
+            "Engineering Lead, Platform Engineering", 10L));
+
+    @Test
+    void matchesTheStartOfAnyWordMostJobsFirst() {
+        assertEquals(List.of(
+                Map.entry("Data Engineer", 40L),
+                Map.entry("Senior Backend Engineer", 30L),
+                Map.entry("Frontend Engineer", 20L),
+                Map.entry("Engineering Lead, Platform Engineering", 10L)), dictionary.top("eng", 10));
+        assertEquals(List.of(Map.entry("Frontend Engineer", 20L)), dictionary.top("front", 10));
+        assertEquals(List.of(), dictionary.top("ineer", 10));
+    }
+
+    @Test
+    void shortPrefixesUseThePrecomputedRanking() {
+        assertEquals(List.of(
+                Map.entry("Backend Developer", 50L),
+                Map.entry("Senior Backend Engineer", 30L)), dictionary.top("b", 10));
+        assertEquals(List.of(Map.entry("Data Engineer", 40L)), dictionary.top("da", 10));
+        assertEquals(List.of(), dictionary.top("x", 10));
+    }
+
+    @Test
+    void limitAndNormalizationApply() {
+        assertEquals(List.of(Map.entry("Backend Developer", 50L)), dictionary.top("  BACK ", 1));
+        assertEquals(List.of(), dictionary.top("", 10));
+        assertEquals(List.of(), dictionary.top("eng", 0));
+    }
+
+    @Test
+    void tiesGoToTheAlphabeticallyFirstValue() {
+        SuggestionDictionary even = SuggestionDictionary.build(Map.of("Beta", 5L, "Alpha Beta", 5L, "Betamax", 5L));
+
+        assertEquals(List.of(
+                Map.entry("Alpha Beta", 5L),
+                Map.entry("Beta", 5L),
+                Map.entry("Betamax", 5L)), even.top("bet", 10));
+        assertEquals(3, even.size());
+    }
+}
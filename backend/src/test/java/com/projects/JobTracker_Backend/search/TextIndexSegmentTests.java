@@ -0,0 +1,122 @@
+package com.projects.JobTracker_Backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextIndexSegmentTests {
+
+    @Test
+    void keywordMatchesOnlyJobsWithAllItsTerms() {
+        TextIndexSegment segment = new TextIndexSegment();
+        segment.add(1, "Backend Engineer", "Acme", "Java and Spring", 0);
+        segment.add(2, "Backend Engineer", "Acme", "Go", 0);
+        segment.add(3, "Frontend Engineer", "Acme", "Java applets", 0);
+
+        assertEquals(List.of(1L), jobIds(segment.search(List.of(List.of("backend", "java")))));
+    }
+
+    @Test
+    void jobMatchingSeveralKeywordsScoresTheirSum() {
+        TextIndexSegment segment = new TextIndexSegment();
+        segment.add(1, "Java Developer", "Acme", "Kotlin too", 0);
+        segment.add(2, "Java Developer", "Acme", null, 0);
+        segment.add(3, "Kotlin Developer", "Acme", null, 0);
+        segment.add(4, "Designer", "Acme", null, 0);
+
+        Map<Long, Float> java = scores(segment.search(List.of(List.of("java"))));
+        Map<Long, Float> kotlin = scores(segment.search(List.of(List.of("kotlin"))));
+        Map<Long, Float> either = scores(segment.search(List.of(List.of("java"), List.of("kotlin"))));
+
+        assertEquals(Map.of(1L, java.get(1L) + kotlin.get(1L), 2L, java.get(2L), 3L, kotlin.get(3L)), either);
+    }
+
+    @Test
+    void titleHitOutranksDescriptionHit() {
+        TextIndexSegment segment = new TextIndexSegment();
+        segment.add(1, "Data Analyst", "Acme", "Works with the python team", 0);
+        segment.add(2, "Python Developer", "Acme", "Works with the data team", 0);
+        segment.add(3, "Designer", "Acme", "Figma", 0);
+
+        Map<Long, Float> scores = scores(segment.search(List.of(List.of("python"))));
+
+        assertEquals(2, scores.size());
+        assertTrue(scores.get(2L) > scores.get(1L));
+    }
+
+    @Test
+    void prefixMatchesLongerTermsWithLowerScore() {
+        TextIndexSegment segment = new TextIndexSegment();
+        segment.add(1, "Engineer", "Acme", null, 0);
+        segment.add(2, "Engineering Manager", "Acme", null, 0);
+        segment.add(3, "Designer", "Acme", null, 0);
+
+        Map<Long, Float> scores = scores(segment.search(List.of(List.of("engineer"))));
+
+        assertEquals(2, scores.size());
+        assertTrue(scores.get(1L) > scores.get(2L));
+        assertTrue(segment.hasTerm("engin"));
+    }
+
+    @Test
+    void deletedAndReplacedJobsAreNotFound() {
+        TextIndexSegment segment = new TextIndexSegment();
+        segment.add(1, "Rust Engineer", "Acme", null, 0);
+        segment.add(2, "Rust Engineer", "Acme", null, 0);
+        segment.add(2, "Go Engineer", "Acme", null, 0);
+        segment.delete(1);
+
+        assertEquals(List.of(), jobIds(segment.search(List.of(List.of("rust")))));
+        assertEquals(List.of(2L), jobIds(segment.search(List.of(List.of("go")))));
+        assertEquals(1, segment.liveCount());
+    }
+
+    @Test
+    void compactionKeepsResultsAndMatchesAFreshSegment() {
+        TextIndexSegment segment = new TextIndexSegment();
+        TextIndexSegment fresh = new TextIndexSegment();
+        for (int i = 0; i < 2000; i++) {
+            String title = i % 2 == 0 ? "Java Engineer" : "Python Engineer";
+            segment.add(i, title, "Company " + i, "Remote", 1000L * i);
+            if (i % 3 != 0) fresh.add(i, title, "Company " + i, "Remote", 1000L * i);
+        }
+        for (int i = 0; i < 2000; i += 3) {
+            segment.delete(i);
+        }
+        List<List<String>> keywords = List.of(List.of("java", "engineer"), List.of("python", "remote"));
+        List<Long> before = jobIds(segment.search(keywords));
+
+        segment.compact();
+
+        assertEquals(0.0, segment.deletedRatio());
+        assertEquals(before, jobIds(segment.search(keywords)));
+        assertEquals(segment.liveCount(), before.size());
+        // Deleted documents no longer count towards document frequencies
+        assertEquals(scores(fresh.search(keywords)), scores(segment.search(keywords)));
+    }
+
+    @Test
+    void hitsCarryPostedAt() {
+        TextIndexSegment segment = new TextIndexSegment();
+        segment.add(7, "Scala Engineer", "Acme", null, 42L);
+
+        SearchHit hit = segment.search(List.of(List.of("scala"))).get(0);
+
+        assertEquals(7L, hit.jobId());
+        assertEquals(42L, hit.postedAtMillis());
+    }
+
+    private static List<Long> jobIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::jobId).sorted(Comparator.naturalOrder()).toList();
+    }
+
+    private static Map<Long, Float> scores(List<SearchHit> hits) {
+        return hits.stream().collect(Collectors.toMap(SearchHit::jobId, SearchHit::score));
+    }
+}
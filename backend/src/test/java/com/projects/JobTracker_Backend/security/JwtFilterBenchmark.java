@@ -0,0 +1,128 @@
+package com.projects.JobTracker_Backend.security;
+
+import com.projects.JobTracker_Backend.model.User;
+import com.projects.JobTracker_Backend.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT request authentication with 1k and 10k distinct live tokens, requests picking tokens at random.
+ *
+ * {@code legacyParse} is the token handling before the verified-token cache: a new parser for
+ * validateJwtToken and another for getUsernameFromToken, each verifying the HMAC and decoding the
+ * claims. {@code parseClaims} is the current single, cached parse, and {@code filter} runs the whole
+ * AuthTokenFilter (account status from a warm UserStatusCache).
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.projects.JobTracker_Backend.security.JwtFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    @Param({"1000", "10000"})
+    private int tokens;
+
+    private SecretKey key;
+    private JwtUtil jwtUtil;
+    private AuthTokenFilter filter;
+    private String[] issued;
+
+    @Setup
+    public void setUp() throws ServletException, IOException {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxTokens", 10_000L);
+        jwtUtil.init();
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findAccountStatusById(Mockito.anyLong()))
+                .thenReturn(Optional.of(new UserAccountStatus(true, false)));
+        UserStatusCache userStatusCache = new UserStatusCache(userRepository);
+        ReflectionTestUtils.setField(userStatusCache, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(userStatusCache, "maxUsers", 10_000L);
+        userStatusCache.init();
+
+        filter = new AuthTokenFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtils", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userStatusCache", userStatusCache);
+
+        issued = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            User user = new User();
+            user.setId((long) i + 1);
+            user.setUsername("user" + i);
+            issued[i] = jwtUtil.generateToken(user);
+            // Warm the account status cache so the filter benchmark measures the token path
+            filter(issued[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String legacyParse() {
+        String token = randomToken();
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(randomToken());
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        return filter(randomToken());
+    }
+
+    private Object filter(String token) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private String randomToken() {
+        return issued[ThreadLocalRandom.current().nextInt(issued.length)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,71 @@
+package com.projects.JobTracker_Backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JobCursorTests {
+
+    @Test
+    void decodesWhatItEncodes() {
+        JobCursor cursor = new JobCursor(LocalDateTime.of(2026, 9, 30, 23, 59, 1, 123_456_000),
+                9_007_199_254_740_993L, Sort.Direction.DESC, 42);
+
+        assertEquals(cursor, JobCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void keepsAnUndatedPosition() {
+        JobCursor cursor = new JobCursor(null, 17, Sort.Direction.ASC, 3);
+
+        assertEquals(cursor, JobCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encodesUrlSafely() {
+        String encoded = new JobCursor(LocalDateTime.of(2026, 1, 1, 0, 0), 1, Sort.Direction.DESC, 1).encode();
+
+        assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="), encoded);
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertInvalid("not a cursor!");
+        assertInvalid("");
+        assertInvalid(raw("hello"));
+    }
+
+    @Test
+    void rejectsTamperedFields() {
+        assertInvalid(raw("2|2026-09-30T10:00|5|postedAt,DESC|1"));
+        assertInvalid(raw("1|2026-09-30T10:00|5|title,DESC|1"));
+        assertInvalid(raw("1|2026-09-30T10:00|5|postedAt,SIDEWAYS|1"));
+        assertInvalid(raw("1|2026-09-30T10:00|5;drop|postedAt,DESC|1"));
+        assertInvalid(raw("1|yesterday|5|postedAt,DESC|1"));
+        assertInvalid(raw("1|2026-09-30T10:00|5|postedAt,DESC"));
+        assertInvalid(raw("1|2026-09-30T10:00|5|postedAt,DESC|1|extra"));
+    }
+
+    @Test
+    void acceptsAHandWrittenCursorOfTheCurrentFormat() {
+        JobCursor cursor = JobCursor.decode(raw("1|2026-09-30T10:00|5|postedAt,ASC|7"));
+
+        assertEquals(new JobCursor(LocalDateTime.of(2026, 9, 30, 10, 0), 5, Sort.Direction.ASC, 7), cursor);
+    }
+
+    private static void assertInvalid(String cursor) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> JobCursor.decode(cursor));
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+
+    private static String raw(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.dto.JobDTO;
+import com.projects.JobTracker_Backend.enums.ExportFormat;
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.Job;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelineExportWriterTests {
+
+    private static final LocalDateTime SAVED_AT = LocalDateTime.of(2026, 10, 1, 12, 30);
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void csvStartsWithTheHeaderRow() throws IOException {
+        StringWriter out = new StringWriter();
+        new PipelineExportWriter(ExportFormat.CSV, out, jsonMapper).writeHeader();
+
+        assertEquals("jobType,jobId,title,company,location,department,employmentType,experienceLevel,"
+                + "jobCategory,source,isRemote,minSalary,maxSalary,postedAt,applyUrl,isActive,savedAt,"
+                + "applicationStatus,appliedAt\r\n", out.toString());
+    }
+
+    @Test
+    void csvQuotesFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        String row = csvRow(job("Engineer, Backend", "Say \"hi\"", "Line one\nline two"));
+
+        assertEquals("GENERAL,7,\"Engineer, Backend\",\"Say \"\"hi\"\"\",\"Line one\nline two\",,FULL_TIME,,,,true,,,"
+                + "2026-09-01T08:00,https://example.com/apply,true,2026-10-01T12:30,APPLIED,\r\n", row);
+    }
+
+    @Test
+    void csvEscapesTextAFormulaWouldStartWith() throws IOException {
+        assertTrue(csvRow(job("=HYPERLINK(\"http://x\")", "Acme", "Pune")).startsWith("GENERAL,7,\"'=HYPERLINK(\"\"http://x\"\")\",Acme,Pune,"));
+        assertTrue(csvRow(job("+1 555", "-Acme", "@Pune")).startsWith("GENERAL,7,'+1 555,'-Acme,'@Pune,"));
+        // Only the first character counts
+        assertTrue(csvRow(job("C++ = fun", "Acme", "Pune")).startsWith("GENERAL,7,C++ = fun,Acme,Pune,"));
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineWithoutEscaping() throws IOException {
+        StringWriter out = new StringWriter();
+        PipelineExportWriter writer = new PipelineExportWriter(ExportFormat.NDJSON, out, jsonMapper);
+        writer.writeHeader();
+        writer.write(job("=SUM(A1)", "Acme, Inc", "Pune"), SAVED_AT);
+        writer.write(job("Engineer", "Globex", "Remote"), null);
+
+        String[] lines = out.toString().split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+
+        JsonNode first = jsonMapper.readTree(lines[0]);
+        assertEquals("=SUM(A1)", first.get("title").asString());
+        assertEquals("Acme, Inc", first.get("company").asString());
+        assertEquals(7, first.get("jobId").asLong());
+        assertEquals("APPLIED", first.get("applicationStatus").asString());
+        assertTrue(jsonMapper.readTree(lines[1]).get("savedAt").isNull());
+    }
+
+    private String csvRow(JobDTO job) throws IOException {
+        StringWriter out = new StringWriter();
+        new PipelineExportWriter(ExportFormat.CSV, out, jsonMapper).write(job, SAVED_AT);
+        return out.toString();
+    }
+
+    private static JobDTO job(String title, String company, String location) {
+        return JobDTO.builder()
+                .jobType(JobType.GENERAL)
+                .id(7L)
+                .title(title)
+                .company(company)
+                .location(location)
+                .employmentType(Job.EmploymentType.FULL_TIME)
+                .isRemote(true)
+                .postedAt(LocalDateTime.of(2026, 9, 1, 8, 0))
+                .applyUrl("https://example.com/apply")
+                .isActive(true)
+                .applicationStatus("APPLIED")
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.projects.JobTracker_Backend.service;
+
+import com.projects.JobTracker_Backend.enums.JobType;
+import com.projects.JobTracker_Backend.model.AppliedJob;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserInteractionsTests {
+
+    private static final LocalDateTime APPLIED_AT = LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_000);
+
+    @Test
+    void updatesLeaveTheOriginalSnapshotUnchanged() {
+        UserInteractions empty = UserInteractions.empty();
+        UserInteractions saved = empty.withSaved(JobType.GENERAL, 7);
+        UserInteractions applied = saved.withApplication(JobType.GENERAL, 7, AppliedJob.ApplicationStatus.APPLIED, APPLIED_AT);
+
+        assertFalse(empty.isSaved(JobType.GENERAL, 7));
+        assertEquals(0, empty.size());
+        assertTrue(saved.isSaved(JobType.GENERAL, 7));
+        assertNull(saved.getApplicationStatus(JobType.GENERAL, 7));
+        assertTrue(applied.isSaved(JobType.GENERAL, 7));
+        assertEquals(AppliedJob.ApplicationStatus.APPLIED, applied.getApplicationStatus(JobType.GENERAL, 7));
+
+        UserInteractions unsaved = applied.withoutSaved(JobType.GENERAL, 7);
+        assertFalse(unsaved.isSaved(JobType.GENERAL, 7));
+        assertTrue(applied.isSaved(JobType.GENERAL, 7));
+    }
+
+    @Test
+    void idsAreKeptPerJobType() {
+        UserInteractions interactions = UserInteractions.empty()
+                .withSaved(JobType.INTERN, 3)
+                .withApplication(JobType.FULLTIME, 3, AppliedJob.ApplicationStatus.INTERVIEW, APPLIED_AT);
+
+        assertTrue(interactions.isSaved(JobType.INTERN, 3));
+        assertFalse(interactions.isSaved(JobType.GENERAL, 3));
+        assertFalse(interactions.isSaved(JobType.FULLTIME, 3));
+        assertEquals(AppliedJob.ApplicationStatus.INTERVIEW, interactions.getApplicationStatus(JobType.FULLTIME, 3));
+        assertNull(interactions.getApplicationStatus(JobType.INTERN, 3));
+        assertEquals(2, interactions.size());
+    }
+
+    @Test
+    void noOpUpdatesReturnTheSameInstance() {
+        UserInteractions saved = UserInteractions.empty().withSaved(JobType.GENERAL, 1);
+
+        assertSame(saved, saved.withSaved(JobType.GENERAL, 1));
+        assertSame(saved, saved.withoutSaved(JobType.GENERAL, 2));
+        assertSame(saved, saved.withoutApplication(JobType.GENERAL, 1));
+    }
+
+    @Test
+    void idsStayFindableWhenInsertedOutOfOrder() {
+        UserInteractions interactions = UserInteractions.empty();
+        long[] ids = {50, 10, 40, 20, 30};
+        for (long id : ids) {
+            interactions = interactions.withSaved(JobType.GENERAL, id);
+        }
+        interactions = interactions.withoutSaved(JobType.GENERAL, 20);
+
+        for (long id : ids) {
+            assertEquals(id != 20, interactions.isSaved(JobType.GENERAL, id));
+        }
+        assertEquals(4, interactions.size());
+    }
+
+    @Test
+    void applicationUpdateKeepsAppliedAtUnlessGiven() {
+        UserInteractions applied = UserInteractions.empty()
+                .withApplication(JobType.GENERAL, 5, AppliedJob.ApplicationStatus.APPLIED, APPLIED_AT);
+        UserInteractions offered = applied.withApplication(JobType.GENERAL, 5, AppliedJob.ApplicationStatus.OFFER, null);
+
+        assertEquals(AppliedJob.ApplicationStatus.OFFER, offered.getApplicationStatus(JobType.GENERAL, 5));
+        assertEquals(APPLIED_AT, offered.getAppliedAt(JobType.GENERAL, 5));
+        assertEquals(AppliedJob.ApplicationStatus.APPLIED, applied.getApplicationStatus(JobType.GENERAL, 5));
+
+        UserInteractions withdrawn = offered.withoutApplication(JobType.GENERAL, 5);
+        assertNull(withdrawn.getApplicationStatus(JobType.GENERAL, 5));
+        assertNull(withdrawn.getAppliedAt(JobType.GENERAL, 5));
+    }
+
+    @Test
+    void builderMatchesIncrementalUpdates() {
+        UserInteractions built = new UserInteractions.Builder()
+                .addSaved(JobType.GENERAL, 9)
+                .addSaved(JobType.GENERAL, 2)
+                .addApplication(JobType.INTERN, 8, AppliedJob.ApplicationStatus.REJECTED, APPLIED_AT)
+                .addApplication(JobType.INTERN, 4, AppliedJob.ApplicationStatus.APPLIED, APPLIED_AT.plusDays(1))
+                .build();
+
+        assertTrue(built.isSaved(JobType.GENERAL, 2));
+        assertTrue(built.isSaved(JobType.GENERAL, 9));
+        assertEquals(AppliedJob.ApplicationStatus.REJECTED, built.getApplicationStatus(JobType.INTERN, 8));
+        assertEquals(AppliedJob.ApplicationStatus.APPLIED, built.getApplicationStatus(JobType.INTERN, 4));
+        assertEquals(APPLIED_AT, built.getAppliedAt(JobType.INTERN, 8));
+        assertEquals(APPLIED_AT.plusDays(1), built.getAppliedAt(JobType.INTERN, 4));
+        assertEquals(4, built.size());
+    }
+}
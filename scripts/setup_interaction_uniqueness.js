@@ -0,0 +1,102 @@
+/**
+ * setup_interaction_uniqueness.js
+ *
+ * Enforces one row per (user_id, job_type, job_id) on saved_jobs and applied_jobs.
+ * The backend's save / status endpoints write with INSERT ... ON CONFLICT on these keys,
+ * so the constraints must exist before they are deployed.
+ *
+ *   1. Removes duplicate rows left by earlier double submits
+ *        saved_jobs   — keeps the oldest save
+ *        applied_jobs — keeps the most recent status
+ *   2. Adds uk_saved_jobs_user_job and uk_applied_jobs_user_job
+ *      (same names as the JPA @UniqueConstraint, so Hibernate recognises them)
+ *
+ * Run once (or on each deploy) — all statements are idempotent.
+ *
+ * Usage:
+ *   node setup_interaction_uniqueness.js
+ */
+
+const { Pool } = require("pg");
+const dotenv = require("dotenv");
+const path = require("path");
+const dns = require("dns");
+
+dns.setDefaultResultOrder("ipv4first");
+dotenv.config({ path: path.resolve(__dirname, ".env") });
+
+const DB_SCHEMA = process.env.DB_SCHEMA || "jobs_tracker_v1";
+
+const pool = new Pool({
+    host: process.env.DB_HOST,
+    user: process.env.DB_USER,
+    password: process.env.DB_PASSWORD,
+    database: process.env.DB_NAME,
+    port: parseInt(process.env.DB_PORT) || 5432,
+    ssl: process.env.DB_SSL === "true" ? { rejectUnauthorized: false } : false,
+    options: `-c search_path=${DB_SCHEMA}`,
+});
+
+async function addUniqueKey(client, table, constraint) {
+    await client.query(`
+        DO $$
+        BEGIN
+            IF NOT EXISTS (
+                SELECT 1 FROM pg_constraint c
+                JOIN pg_namespace n ON n.oid = c.connamespace
+                WHERE c.conname = '${constraint}' AND n.nspname = '${DB_SCHEMA}'
+            ) THEN
+                ALTER TABLE ${table}
+                ADD CONSTRAINT ${constraint} UNIQUE (user_id, job_type, job_id);
+            END IF;
+        END $$;
+    `);
+    console.log(`  ✅ ${constraint} on ${table} ready.`);
+}
+
+async function setup() {
+    const client = await pool.connect();
+    try {
+        console.log(`\n🛠️  Enforcing unique interactions in schema: ${DB_SCHEMA}\n`);
+
+        await client.query("BEGIN");
+
+        // ── 1. Remove duplicates ─────────────────────────────────────────────
+        const savedDupes = await client.query(`
+            DELETE FROM saved_jobs s
+            USING saved_jobs keep
+            WHERE s.user_id = keep.user_id
+              AND s.job_type = keep.job_type
+              AND s.job_id = keep.job_id
+              AND s.id > keep.id;
+        `);
+        console.log(`  🧹 Removed ${savedDupes.rowCount} duplicate saved_jobs rows.`);
+
+        const appliedDupes = await client.query(`
+            DELETE FROM applied_jobs a
+            USING applied_jobs keep
+            WHERE a.user_id = keep.user_id
+              AND a.job_type = keep.job_type
+              AND a.job_id = keep.job_id
+              AND a.id < keep.id;
+        `);
+        console.log(`  🧹 Removed ${appliedDupes.rowCount} duplicate applied_jobs rows.`);
+
+        // ── 2. Unique keys ───────────────────────────────────────────────────
+        await addUniqueKey(client, "saved_jobs", "uk_saved_jobs_user_job");
+        await addUniqueKey(client, "applied_jobs", "uk_applied_jobs_user_job");
+
+        await client.query("COMMIT");
+        console.log("\n🎉 Interaction uniqueness enforced.\n");
+
+    } catch (err) {
+        await client.query("ROLLBACK");
+        console.error("❌ Setup failed:", err.message);
+        process.exit(1);
+    } finally {
+        client.release();
+        await pool.end();
+    }
+}
+
+setup();
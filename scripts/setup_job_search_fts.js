@@ -0,0 +1,99 @@
+/**
+ * setup_job_search_fts.js
+ *
+ * Adds PostgreSQL full-text search to jobs, intern_jobs and fulltime_jobs.
+ * The backend uses it when search.keyword-mode=fulltext.
+ *
+ *   1. search_vector — a generated tsvector column
+ *        title        weight A
+ *        company      weight B
+ *        description  weight C
+ *   2. idx_<table>_search_vector — a GIN index on that column
+ *   3. Prints the plan of a sample query, which should show a Bitmap Index Scan on the GIN index
+ *
+ * Adding a stored generated column rewrites the table once; run it outside peak ingestion.
+ * Run once (or on each deploy) — all statements are idempotent.
+ *
+ * Usage:
+ *   node setup_job_search_fts.js
+ */
+
+const { Pool } = require("pg");
+const dotenv = require("dotenv");
+const path = require("path");
+const dns = require("dns");
+
+dns.setDefaultResultOrder("ipv4first");
+dotenv.config({ path: path.resolve(__dirname, ".env") });
+
+const DB_SCHEMA = process.env.DB_SCHEMA || "jobs_tracker_v1";
+const TABLES = ["jobs", "intern_jobs", "fulltime_jobs"];
+
+const pool = new Pool({
+    host: process.env.DB_HOST,
+    user: process.env.DB_USER,
+    password: process.env.DB_PASSWORD,
+    database: process.env.DB_NAME,
+    port: parseInt(process.env.DB_PORT) || 5432,
+    ssl: process.env.DB_SSL === "true" ? { rejectUnauthorized: false } : false,
+    options: `-c search_path=${DB_SCHEMA}`,
+});
+
+async function addSearchVector(client, table) {
+    await client.query(`
+        ALTER TABLE ${table}
+        ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(company, '')), 'B') ||
+            setweight(to_tsvector('english', coalesce(description, '')), 'C')
+        ) STORED;
+    `);
+    console.log(`  ✅ search_vector on ${table} ready.`);
+
+    await client.query(`
+        CREATE INDEX IF NOT EXISTS idx_${table}_search_vector
+        ON ${table} USING GIN (search_vector);
+    `);
+    console.log(`  ✅ idx_${table}_search_vector ready.`);
+}
+
+async function explainSample(client, table) {
+    const plan = await client.query(`
+        EXPLAIN
+        SELECT id, ts_rank(search_vector, query)
+        FROM ${table}, websearch_to_tsquery('english', 'backend -php') query
+        WHERE is_active = true AND search_vector @@ query;
+    `);
+    console.log(`\n  🔎 Sample plan for ${table}:`);
+    for (const row of plan.rows) {
+        console.log(`     ${row["QUERY PLAN"]}`);
+    }
+}
+
+async function setup() {
+    const client = await pool.connect();
+    try {
+        console.log(`\n🛠️  Setting up full-text search in schema: ${DB_SCHEMA}\n`);
+
+        for (const table of TABLES) {
+            await addSearchVector(client, table);
+        }
+
+        for (const table of TABLES) {
+            await client.query(`ANALYZE ${table};`);
+            await explainSample(client, table);
+        }
+
+        console.log("\n🎉 Full-text search ready.\n");
+
+    } catch (err) {
+        console.error("❌ Setup failed:", err.message);
+        process.exit(1);
+    } finally {
+        client.release();
+        await pool.end();
+    }
+}
+
+setup();
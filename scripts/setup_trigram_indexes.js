@@ -0,0 +1,103 @@
+/**
+ * setup_trigram_indexes.js
+ *
+ * Adds pg_trgm GIN indexes for the partial-match filters on jobs, intern_jobs and fulltime_jobs.
+ * The backend filters locations, companies and positions with lower(col) LIKE '%x%'. A B-tree
+ * cannot serve a leading wildcard; a trigram index on the same lower(col) expression can.
+ * The same indexes serve fuzzy location matching (locationSimilarity on the filter endpoints).
+ *
+ *   1. CREATE EXTENSION pg_trgm
+ *   2. idx_<table>_<column>_trgm on lower(location), lower(company), lower(title)
+ *      (built CONCURRENTLY, so ingestion keeps running)
+ *   3. Prints EXPLAIN ANALYZE of a 5-location / 5-company filter, which should show
+ *      Bitmap Index Scans on the trigram indexes
+ *
+ * Run once (or on each deploy) — all statements are idempotent.
+ *
+ * Usage:
+ *   node setup_trigram_indexes.js
+ */
+
+const { Pool } = require("pg");
+const dotenv = require("dotenv");
+const path = require("path");
+const dns = require("dns");
+
+dns.setDefaultResultOrder("ipv4first");
+dotenv.config({ path: path.resolve(__dirname, ".env") });
+
+const DB_SCHEMA = process.env.DB_SCHEMA || "jobs_tracker_v1";
+const TABLES = ["jobs", "intern_jobs", "fulltime_jobs"];
+const COLUMNS = ["location", "company", "title"];
+
+const SAMPLE_LOCATIONS = ["bangalore", "mumbai", "pune", "hyderabad", "remote"];
+const SAMPLE_COMPANIES = ["google", "amazon", "microsoft", "flipkart", "infosys"];
+
+const pool = new Pool({
+    host: process.env.DB_HOST,
+    user: process.env.DB_USER,
+    password: process.env.DB_PASSWORD,
+    database: process.env.DB_NAME,
+    port: parseInt(process.env.DB_PORT) || 5432,
+    ssl: process.env.DB_SSL === "true" ? { rejectUnauthorized: false } : false,
+    options: `-c search_path=${DB_SCHEMA}`,
+});
+
+async function addTrigramIndex(client, table, column) {
+    const index = `idx_${table}_${column}_trgm`;
+    await client.query(`
+        CREATE INDEX CONCURRENTLY IF NOT EXISTS ${index}
+        ON ${table} USING GIN (lower(${column}) public.gin_trgm_ops);
+    `);
+    console.log(`  ✅ ${index} ready.`);
+}
+
+async function explainSample(client, table) {
+    const locations = SAMPLE_LOCATIONS.map((_, i) => `lower(location) LIKE $${i + 1}`).join(" OR ");
+    const companies = SAMPLE_COMPANIES.map((_, i) => `lower(company) LIKE $${i + 1 + SAMPLE_LOCATIONS.length}`).join(" OR ");
+    const params = [...SAMPLE_LOCATIONS, ...SAMPLE_COMPANIES].map(v => `%${v}%`);
+
+    const plan = await client.query(`
+        EXPLAIN (ANALYZE, BUFFERS)
+        SELECT id FROM ${table}
+        WHERE is_active = true AND (${locations}) AND (${companies})
+        ORDER BY posted_at DESC LIMIT 20;
+    `, params);
+    console.log(`\n  🔎 5 locations × 5 companies on ${table}:`);
+    for (const row of plan.rows) {
+        console.log(`     ${row["QUERY PLAN"]}`);
+    }
+}
+
+async function setup() {
+    const client = await pool.connect();
+    try {
+        console.log(`\n🛠️  Setting up trigram indexes in schema: ${DB_SCHEMA}\n`);
+
+        // In public, so the backend's sessions (default search_path) resolve the <% operator
+        await client.query(`CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public;`);
+        console.log("  ✅ pg_trgm extension ready.");
+
+        for (const table of TABLES) {
+            for (const column of COLUMNS) {
+                await addTrigramIndex(client, table, column);
+            }
+        }
+
+        for (const table of TABLES) {
+            await client.query(`ANALYZE ${table};`);
+            await explainSample(client, table);
+        }
+
+        console.log("\n🎉 Trigram indexes ready.\n");
+
+    } catch (err) {
+        console.error("❌ Setup failed:", err.message);
+        process.exit(1);
+    } finally {
+        client.release();
+        await pool.end();
+    }
+}
+
+setup();